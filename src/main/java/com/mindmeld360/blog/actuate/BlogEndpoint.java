@@ -0,0 +1,128 @@
+package com.mindmeld360.blog.actuate;
+
+import com.mindmeld360.blog.model.CorpusLoadReport;
+import com.mindmeld360.blog.model.WarmupReport;
+import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.service.HeroImageService;
+import com.mindmeld360.blog.service.PreloadLinkService;
+import com.mindmeld360.blog.web.BlogWarmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Actuator endpoint {@code /actuator/blog} for inspecting and refreshing the served corpus.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/blog} - post count, corpus version, last load and warm-up</li>
+ *   <li>{@code GET /actuator/blog/{slug}} - render time and size of one post</li>
+ *   <li>{@code POST /actuator/blog} - reloads the corpus and evicts derived caches</li>
+ *   <li>{@code DELETE /actuator/blog} - evicts derived caches (feed XML, preload hints, hero lookups)</li>
+ * </ul>
+ * Expose it like any other endpoint, e.g. {@code management.endpoints.web.exposure.include=health,blog}.
+ */
+@Endpoint(id = "blog")
+public class BlogEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogEndpoint.class);
+
+    private static final int SLOWEST_POSTS = 10;
+
+    private final BlogService blogService;
+    private final FeedService feedService;
+    private final PreloadLinkService preloadLinkService;
+    private final HeroImageService heroImageService;
+    private final BlogWarmup blogWarmup;
+
+    /**
+     * @param blogWarmup source of the startup warm-up report; may be null
+     */
+    public BlogEndpoint(BlogService blogService, FeedService feedService, PreloadLinkService preloadLinkService,
+                        HeroImageService heroImageService, BlogWarmup blogWarmup) {
+        this.blogService = blogService;
+        this.feedService = feedService;
+        this.preloadLinkService = preloadLinkService;
+        this.heroImageService = heroImageService;
+        this.blogWarmup = blogWarmup;
+    }
+
+    @ReadOperation
+    public BlogDescriptor blog() {
+        CorpusLoadReport lastLoad = blogService.getLoadReport().orElse(null);
+        WarmupReport warmup = blogWarmup != null ? blogWarmup.getReport().orElse(null) : null;
+        return new BlogDescriptor(
+            blogService.getContentSourceType(),
+            blogService.getCorpusVersion().orElse(null),
+            blogService.getPosts(1, 1).totalPosts(),
+            lastLoad,
+            slowest(lastLoad),
+            warmup
+        );
+    }
+
+    /**
+     * Returns the load statistics of one post; 404 if it is not published or the source keeps no statistics.
+     */
+    @ReadOperation
+    public CorpusLoadReport.PostStats post(@Selector String slug) {
+        return blogService.getLoadReport()
+            .flatMap(report -> report.posts().stream().filter(post -> post.slug().equals(slug)).findFirst())
+            .orElse(null);
+    }
+
+    /**
+     * Re-reads content from the source and drops everything derived from the previous corpus.
+     */
+    @WriteOperation
+    public BlogDescriptor reload() {
+        log.info("Reloading blog corpus via actuator");
+        blogService.reload();
+        evict();
+        return blog();
+    }
+
+    @DeleteOperation
+    public void evict() {
+        feedService.evict();
+        preloadLinkService.evict();
+        heroImageService.evict();
+        log.info("Evicted blog feed, preload hint and hero image caches");
+    }
+
+    private static List<CorpusLoadReport.PostStats> slowest(CorpusLoadReport report) {
+        if (report == null) {
+            return List.of();
+        }
+        return report.posts().stream()
+            .filter(post -> post.renderTime() != null)
+            .sorted(Comparator.comparing(CorpusLoadReport.PostStats::renderTime).reversed())
+            .limit(SLOWEST_POSTS)
+            .toList();
+    }
+
+    /**
+     * @param contentSource content source implementation
+     * @param corpusVersion manifest version, or null for sources that do not track one
+     * @param posts         published posts
+     * @param lastLoad      statistics of the last full load, or null for paging sources
+     * @param slowest       the posts that took longest to render, slowest first
+     * @param warmup        startup warm-up timings, or null if it did not run
+     */
+    public record BlogDescriptor(
+        String contentSource,
+        String corpusVersion,
+        int posts,
+        CorpusLoadReport lastLoad,
+        List<CorpusLoadReport.PostStats> slowest,
+        WarmupReport warmup
+    ) {
+    }
+}
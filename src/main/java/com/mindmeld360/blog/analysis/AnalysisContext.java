@@ -0,0 +1,62 @@
+package com.mindmeld360.blog.analysis;
+
+import com.mindmeld360.blog.model.PostAnalysis;
+import org.commonmark.node.Code;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Node;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-post state shared by all analyzers during one traversal.
+ */
+public class AnalysisContext {
+
+    private final PostAnalysis.Builder analysis = new PostAnalysis.Builder();
+    private final Map<Node, Map<String, String>> renderAttributes = new IdentityHashMap<>();
+
+    public PostAnalysis.Builder analysis() {
+        return analysis;
+    }
+
+    /**
+     * Requests an extra HTML attribute on the element rendered for {@code node}, such as a heading id.
+     */
+    public void setRenderAttribute(Node node, String name, String value) {
+        renderAttributes.computeIfAbsent(node, n -> new LinkedHashMap<>()).put(name, value);
+    }
+
+    public Map<Node, Map<String, String>> getRenderAttributes() {
+        return renderAttributes;
+    }
+
+    /**
+     * Returns true if {@code node} is {@code ancestor} or one of its descendants.
+     */
+    public static boolean isWithin(Node node, Node ancestor) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the plain text carried by {@code node} itself (not its children).
+     */
+    public static void appendText(Node node, StringBuilder text) {
+        if (node instanceof Text t) {
+            text.append(t.getLiteral());
+        } else if (node instanceof Code code) {
+            text.append(code.getLiteral());
+        } else if (node instanceof SoftLineBreak
+                || node instanceof HardLineBreak) {
+            text.append(' ');
+        }
+    }
+}
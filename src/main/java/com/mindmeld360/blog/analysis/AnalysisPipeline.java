@@ -0,0 +1,125 @@
+package com.mindmeld360.blog.analysis;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.exception.RenderBudgetExceededException;
+import com.mindmeld360.blog.model.PostAnalysis;
+import org.commonmark.ext.front.matter.YamlFrontMatterNode;
+import org.commonmark.node.Node;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Walks a parsed post exactly once, extracting YAML front matter and feeding every
+ * node to each registered {@link PostAnalyzer}.
+ *
+ * To add an analyzer, register a customized pipeline bean:
+ * <pre>
+ * &#64;Bean
+ * AnalysisPipeline analysisPipeline(BlogProperties blogProperties) {
+ *     return AnalysisPipeline.defaults(blogProperties).with(MyAnalyzer::new);
+ * }
+ * </pre>
+ */
+public class AnalysisPipeline {
+
+    private final List<Supplier<? extends PostAnalyzer>> analyzers;
+
+    public AnalysisPipeline(List<Supplier<? extends PostAnalyzer>> analyzers) {
+        this.analyzers = List.copyOf(analyzers);
+    }
+
+    /**
+     * Creates the built-in pipeline: headings/TOC, word count and reading time, links and images, excerpt.
+     */
+    public static AnalysisPipeline defaults(BlogProperties blogProperties) {
+        BlogProperties.Analysis settings = blogProperties.getAnalysis();
+        return new AnalysisPipeline(List.of(
+            HeadingAnalyzer::new,
+            () -> new TextStatsAnalyzer(settings.getWordsPerMinute()),
+            () -> new LinkAnalyzer(blogProperties.getPublisherUrl()),
+            () -> new ExcerptAnalyzer(settings.getExcerptLength())
+        ));
+    }
+
+    /**
+     * Returns a new pipeline with {@code analyzer} appended.
+     */
+    public AnalysisPipeline with(Supplier<? extends PostAnalyzer> analyzer) {
+        List<Supplier<? extends PostAnalyzer>> extended = new ArrayList<>(analyzers);
+        extended.add(analyzer);
+        return new AnalysisPipeline(extended);
+    }
+
+    public Result analyze(Node document) {
+        return analyze(document, 0, 0);
+    }
+
+    /**
+     * Analyzes a document, giving up as soon as it turns out larger or deeper than allowed.
+     *
+     * @param maxNodes maximum number of AST nodes, 0 for no limit
+     * @param maxDepth maximum nesting depth below the document, 0 for no limit
+     * @throws RenderBudgetExceededException if a limit is exceeded
+     */
+    public Result analyze(Node document, int maxNodes, int maxDepth) {
+        List<PostAnalyzer> active = new ArrayList<>(analyzers.size());
+        for (Supplier<? extends PostAnalyzer> analyzer : analyzers) {
+            active.add(analyzer.get());
+        }
+
+        AnalysisContext context = new AnalysisContext();
+        Map<String, List<String>> frontMatter = new LinkedHashMap<>();
+
+        // Pre-order traversal via sibling/parent links; no recursion, no second pass
+        Node node = document;
+        int nodes = 0;
+        int depth = 0;
+        while (node != null) {
+            if (maxNodes > 0 && ++nodes > maxNodes) {
+                throw new RenderBudgetExceededException("more than " + maxNodes + " markdown nodes");
+            }
+            if (node instanceof YamlFrontMatterNode yaml) {
+                frontMatter.put(yaml.getKey(), yaml.getValues());
+            }
+            for (PostAnalyzer analyzer : active) {
+                analyzer.visit(node, context);
+            }
+
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+                // The HTML renderer recurses per level, so deep nesting can exhaust the stack
+                if (maxDepth > 0 && ++depth > maxDepth) {
+                    throw new RenderBudgetExceededException("nesting deeper than " + maxDepth + " levels");
+                }
+                continue;
+            }
+            while (node != document && node.getNext() == null) {
+                node = node.getParent();
+                depth--;
+            }
+            node = node == document ? null : node.getNext();
+        }
+
+        for (PostAnalyzer analyzer : active) {
+            analyzer.finish(context);
+        }
+
+        return new Result(frontMatter, context.analysis().build(), context.getRenderAttributes());
+    }
+
+    /**
+     * @param frontMatter      YAML front matter keyed by field name
+     * @param analysis         derived data to store on the post
+     * @param renderAttributes extra HTML attributes to apply while rendering, keyed by node identity
+     */
+    public record Result(
+        Map<String, List<String>> frontMatter,
+        PostAnalysis analysis,
+        Map<Node, Map<String, String>> renderAttributes
+    ) {
+    }
+}
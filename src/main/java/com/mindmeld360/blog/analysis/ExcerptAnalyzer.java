@@ -0,0 +1,46 @@
+package com.mindmeld360.blog.analysis;
+
+import org.commonmark.node.Document;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+
+/**
+ * Extracts the plain text of the first top-level paragraph, truncated on a word boundary.
+ */
+public class ExcerptAnalyzer implements PostAnalyzer {
+
+    private final int maxLength;
+    private final StringBuilder text = new StringBuilder();
+    private Paragraph paragraph;
+    private boolean done;
+
+    public ExcerptAnalyzer(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void visit(Node node, AnalysisContext context) {
+        if (done) {
+            return;
+        }
+        if (paragraph == null) {
+            if (node instanceof Paragraph p && p.getParent() instanceof Document) {
+                paragraph = p;
+            }
+        } else if (AnalysisContext.isWithin(node, paragraph)) {
+            AnalysisContext.appendText(node, text);
+        } else {
+            done = true;
+        }
+    }
+
+    @Override
+    public void finish(AnalysisContext context) {
+        String excerpt = text.toString().replaceAll("\\s+", " ").trim();
+        if (maxLength > 0 && excerpt.length() > maxLength) {
+            int cut = excerpt.lastIndexOf(' ', maxLength);
+            excerpt = excerpt.substring(0, cut > 0 ? cut : maxLength) + "…";
+        }
+        context.analysis().excerpt(excerpt);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mindmeld360.blog.analysis;
+
+import com.mindmeld360.blog.model.TocEntry;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Assigns a unique anchor id to every heading and builds the table of contents.
+ */
+public class HeadingAnalyzer implements PostAnalyzer {
+
+    private final List<Heading> headings = new ArrayList<>();
+    private final List<StringBuilder> texts = new ArrayList<>();
+    private Heading current;
+
+    @Override
+    public void visit(Node node, AnalysisContext context) {
+        if (node instanceof Heading heading) {
+            current = heading;
+            headings.add(heading);
+            texts.add(new StringBuilder());
+        } else if (current != null) {
+            if (AnalysisContext.isWithin(node, current)) {
+                AnalysisContext.appendText(node, texts.get(texts.size() - 1));
+            } else {
+                current = null;
+            }
+        }
+    }
+
+    @Override
+    public void finish(AnalysisContext context) {
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < headings.size(); i++) {
+            Heading heading = headings.get(i);
+            String text = texts.get(i).toString().trim();
+
+            String base = slugify(text);
+            String anchor = base;
+            for (int n = 1; !used.add(anchor); n++) {
+                anchor = base + "-" + n;
+            }
+
+            context.setRenderAttribute(heading, "id", anchor);
+            context.analysis().tocEntry(new TocEntry(heading.getLevel(), text, anchor));
+        }
+    }
+
+    static String slugify(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}+", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{Nd}]+", "-")
+            .replaceAll("(^-+|-+$)", "");
+        return normalized.isEmpty() ? "section" : normalized;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mindmeld360.blog.analysis;
+
+import org.commonmark.node.Image;
+import org.commonmark.node.Link;
+import org.commonmark.node.Node;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects link and image destinations, classifying links as internal
+ * (relative, fragment or on the publisher's own host) or outbound.
+ */
+public class LinkAnalyzer implements PostAnalyzer {
+
+    private final String publisherUrl;
+    private final Set<String> outbound = new LinkedHashSet<>();
+    private final Set<String> internal = new LinkedHashSet<>();
+    private final Set<String> images = new LinkedHashSet<>();
+
+    /**
+     * @param publisherUrl absolute site URL; links starting with it count as internal (may be null)
+     */
+    public LinkAnalyzer(String publisherUrl) {
+        this.publisherUrl = publisherUrl;
+    }
+
+    @Override
+    public void visit(Node node, AnalysisContext context) {
+        if (node instanceof Link link) {
+            String destination = link.getDestination();
+            if (destination == null || destination.isBlank()) {
+                return;
+            }
+            if (isInternal(destination)) {
+                internal.add(destination);
+            } else if (destination.startsWith("http://") || destination.startsWith("https://")
+                    || destination.startsWith("//")) {
+                outbound.add(destination);
+            }
+        } else if (node instanceof Image image && image.getDestination() != null) {
+            images.add(image.getDestination());
+        }
+    }
+
+    @Override
+    public void finish(AnalysisContext context) {
+        outbound.forEach(context.analysis()::outboundLink);
+        internal.forEach(context.analysis()::internalLink);
+        images.forEach(context.analysis()::image);
+    }
+
+    private boolean isInternal(String destination) {
+        if (publisherUrl != null && !publisherUrl.isBlank() && destination.startsWith(publisherUrl)) {
+            return true;
+        }
+        if (destination.startsWith("//")) {
+            return false;
+        }
+        if (destination.startsWith("/") || destination.startsWith("#") || destination.startsWith(".")) {
+            return true;
+        }
+        // Relative path without a scheme, e.g. "other-post"
+        int colon = destination.indexOf(':');
+        int slash = destination.indexOf('/');
+        return colon < 0 || (slash >= 0 && slash < colon);
+    }
+}
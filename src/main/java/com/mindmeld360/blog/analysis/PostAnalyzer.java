@@ -0,0 +1,21 @@
+package com.mindmeld360.blog.analysis;
+
+import org.commonmark.node.Node;
+
+/**
+ * One stage of the single-pass analysis run over every post's AST.
+ *
+ * A fresh instance is created per post, so implementations may keep per-post state
+ * in fields. {@link #visit} is called once for every node in document order; nothing
+ * should traverse the tree on its own.
+ */
+public interface PostAnalyzer {
+
+    void visit(Node node, AnalysisContext context);
+
+    /**
+     * Called after the last node has been visited to publish results.
+     */
+    default void finish(AnalysisContext context) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.mindmeld360.blog.analysis;
+
+import org.commonmark.node.Code;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+
+/**
+ * Counts words in prose and inline code and derives the reading time.
+ * Fenced and indented code blocks are not counted.
+ */
+public class TextStatsAnalyzer implements PostAnalyzer {
+
+    private final int wordsPerMinute;
+    private int wordCount;
+
+    public TextStatsAnalyzer(int wordsPerMinute) {
+        this.wordsPerMinute = Math.max(1, wordsPerMinute);
+    }
+
+    @Override
+    public void visit(Node node, AnalysisContext context) {
+        if (node instanceof Text text) {
+            wordCount += countWords(text.getLiteral());
+        } else if (node instanceof Code code) {
+            wordCount += countWords(code.getLiteral());
+        }
+    }
+
+    @Override
+    public void finish(AnalysisContext context) {
+        int minutes = wordCount == 0 ? 0 : Math.max(1, (wordCount + wordsPerMinute - 1) / wordsPerMinute);
+        context.analysis()
+            .wordCount(wordCount)
+            .readingTimeMinutes(minutes);
+    }
+
+    private static int countWords(String literal) {
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < literal.length(); i++) {
+            boolean whitespace = Character.isWhitespace(literal.charAt(i));
+            if (!whitespace && !inWord) {
+                count++;
+            }
+            inWord = !whitespace;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mindmeld360.blog.aot;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.CorpusSnapshot;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.HeroImage;
+import com.mindmeld360.blog.model.PostAnalysis;
+import com.mindmeld360.blog.model.PostPage;
+import com.mindmeld360.blog.model.TocEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
+
+/**
+ * Reflection and resource hints for running the blog in a GraalVM native image.
+ *
+ * <ul>
+ *   <li>Rome instantiates the generators, parsers and converters listed in {@code rome.properties}
+ *       reflectively; every class named there is registered.</li>
+ *   <li>Thymeleaf templates read the model records through SpEL.</li>
+ *   <li>Jackson reads and writes posts for cluster snapshots and the JDBC analysis column.</li>
+ *   <li>Templates, the stylesheets and the default content path are registered as resources.
+ *       Custom content paths are registered by {@link CorpusIndexAotProcessor}.</li>
+ * </ul>
+ * CommonMark and its extensions are plain object graphs and need no hints.
+ */
+public class BlogRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogRuntimeHints.class);
+
+    private static final String ROME_PROPERTIES = "com/rometools/rome/rome.properties";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+            .registerPattern("templates/blog/*.html")
+            .registerPattern("static/css/devx-blog*.css")
+            .registerPattern(new BlogProperties().getContentPath() + "/*.md")
+            .registerPattern(ROME_PROPERTIES)
+            .registerPattern("rome.properties");
+
+        BindableRuntimeHintsRegistrar.forTypes(BlogProperties.class).registerHints(hints, classLoader);
+
+        for (Class<?> type : new Class<?>[] {BlogPost.class, PostAnalysis.class, TocEntry.class, PostPage.class,
+                HeroImage.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+        }
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), CorpusSnapshot.class);
+
+        registerRomePlugins(hints, classLoader);
+    }
+
+    private static void registerRomePlugins(RuntimeHints hints, ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : BlogRuntimeHints.class.getClassLoader();
+        try {
+            for (String name : new String[] {ROME_PROPERTIES, "rome.properties"}) {
+                Enumeration<URL> urls = loader.getResources(name);
+                while (urls.hasMoreElements()) {
+                    Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(urls.nextElement()));
+                    for (String key : properties.stringPropertyNames()) {
+                        for (String className : properties.getProperty(key).trim().split("[\\s,]+")) {
+                            if (!className.isEmpty()) {
+                                hints.reflection().registerType(TypeReference.of(className),
+                                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read rome.properties; the RSS feed may fail in a native image: {}", e.getMessage());
+        }
+    }
+}
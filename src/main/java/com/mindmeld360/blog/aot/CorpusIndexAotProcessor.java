@@ -0,0 +1,77 @@
+package com.mindmeld360.blog.aot;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.CorpusIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.hint.ResourceHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.javapoet.CodeBlock;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Builds the {@link CorpusIndex} for the configured {@code blog.content-path} during AOT processing.
+ *
+ * The index is compiled into the generated bean factory initialization as a singleton, and the
+ * indexed markdown files are registered as native image resources. Registered through
+ * {@code META-INF/spring/aot.factories}; does nothing for applications that do not import the
+ * blog configuration.
+ */
+public class CorpusIndexAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(CorpusIndexAotProcessor.class);
+
+    // One string literal per file; far below the JVM's per-method bytecode limit
+    private static final int MAX_INDEXED_FILES = 5000;
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory.getBeanNamesForType(BlogProperties.class, false, false).length == 0) {
+            return null;
+        }
+
+        String contentPath = Binder.get(beanFactory.getBean(Environment.class))
+            .bind("blog.content-path", String.class)
+            .orElse(new BlogProperties().getContentPath());
+        CorpusIndex index;
+        try {
+            index = CorpusIndex.scan(new PathMatchingResourcePatternResolver(beanFactory.getBeanClassLoader()),
+                contentPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index blog content under " + contentPath, e);
+        }
+        if (index.locations().size() > MAX_INDEXED_FILES) {
+            log.warn("Not indexing {} blog posts under {}; more than {} posts should use the JDBC content source",
+                index.locations().size(), contentPath, MAX_INDEXED_FILES);
+            return null;
+        }
+        log.info("Indexed {} blog posts under {}", index.locations().size(), contentPath);
+
+        return (generationContext, beanFactoryInitializationCode) -> {
+            ResourceHints resources = generationContext.getRuntimeHints().resources();
+            index.locations().forEach(resources::registerPattern);
+
+            CodeBlock locations = CodeBlock.join(
+                index.locations().stream().map(location -> CodeBlock.of("$S", location)).toList(), ", ");
+            GeneratedMethod method = beanFactoryInitializationCode.getMethods().add("registerBlogCorpusIndex",
+                builder -> builder
+                    .addJavadoc("Register the blog posts found under $L at build time.", contentPath)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(DefaultListableBeanFactory.class, "beanFactory")
+                    .addStatement("beanFactory.registerSingleton($S, new $T($S, $T.of($L)))",
+                        CorpusIndex.BEAN_NAME, CorpusIndex.class, contentPath, List.class, locations));
+            beanFactoryInitializationCode.addInitializer(method.toMethodReference());
+        };
+    }
+}
@@ -1,23 +1,131 @@
 package com.mindmeld360.blog.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.aot.BlogRuntimeHints;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.ContentSource;
+import com.mindmeld360.blog.content.CorpusIndex;
+import com.mindmeld360.blog.content.InvalidationChannel;
+import com.mindmeld360.blog.content.JdbcContentSource;
+import com.mindmeld360.blog.content.MarkdownPostParser;
+import com.mindmeld360.blog.content.SharedDirectoryInvalidationChannel;
 import com.mindmeld360.blog.controller.BlogController;
+import com.mindmeld360.blog.controller.HeroImageController;
 import com.mindmeld360.blog.controller.RssFeedController;
+import com.mindmeld360.blog.controller.StaticAssetController;
 import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.service.HeroImageService;
+import com.mindmeld360.blog.service.PreloadLinkService;
+import com.mindmeld360.blog.service.StaticAssetService;
 import com.mindmeld360.blog.util.UrlBuilder;
+import com.mindmeld360.blog.web.AssetUrlEncodingFilter;
+import com.mindmeld360.blog.web.BlogWarmup;
+import com.mindmeld360.blog.web.PostBodyFilter;
+import com.mindmeld360.blog.web.ServerTimingFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.Ordered;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
 @Configuration
 @EnableConfigurationProperties(BlogProperties.class)
+@Import(BlogEndpointConfiguration.class)
+@ImportRuntimeHints(BlogRuntimeHints.class)
 public class BlogConfiguration {
 
     @Bean
-    public BlogService blogService(BlogProperties blogProperties, ResourcePatternResolver resourceResolver) {
-        return new BlogService(blogProperties, resourceResolver);
+    @ConditionalOnMissingBean
+    public AnalysisPipeline analysisPipeline(BlogProperties blogProperties) {
+        return AnalysisPipeline.defaults(blogProperties);
+    }
+
+    @Bean
+    public MarkdownPostParser markdownPostParser(BlogProperties blogProperties, AnalysisPipeline analysisPipeline) {
+        return new MarkdownPostParser(blogProperties, analysisPipeline);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "blog.cluster", name = "enabled", havingValue = "true")
+    public InvalidationChannel blogInvalidationChannel(BlogProperties blogProperties, ObjectMapper objectMapper) {
+        BlogProperties.Cluster cluster = blogProperties.getCluster();
+        if (cluster.getSharedDirectory() == null || cluster.getSharedDirectory().isBlank()) {
+            throw new IllegalStateException("blog.cluster.enabled=true requires blog.cluster.shared-directory");
+        }
+        return new SharedDirectoryInvalidationChannel(Path.of(cluster.getSharedDirectory()), objectMapper,
+            cluster.getPollInterval(), cluster.getBuildWait(), cluster.getRetainedSnapshots());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ContentSource blogContentSource(BlogProperties blogProperties, ResourcePatternResolver resourceResolver,
+                                           MarkdownPostParser markdownPostParser,
+                                           ObjectProvider<DataSource> dataSource, ObjectMapper objectMapper,
+                                           ObjectProvider<InvalidationChannel> invalidationChannel,
+                                           ObjectProvider<CorpusIndex> corpusIndex) {
+        BlogProperties.Jdbc jdbc = blogProperties.getJdbc();
+        if (!jdbc.isEnabled()) {
+            return new ClasspathContentSource(blogProperties, resourceResolver, markdownPostParser,
+                blogProperties.getBodyStorage(), invalidationChannel.getIfAvailable(), corpusIndex.getIfAvailable());
+        }
+
+        DataSource jdbcDataSource = dataSource.getIfAvailable();
+        if (jdbcDataSource == null) {
+            throw new IllegalStateException("blog.jdbc.enabled=true requires a DataSource bean");
+        }
+        if (blogProperties.getPageSize() <= 0) {
+            // An unpaged index would load every row on each request
+            throw new IllegalStateException("blog.jdbc.enabled=true requires a positive blog.page-size");
+        }
+        JdbcContentSource jdbcSource = new JdbcContentSource(jdbcDataSource, jdbc.getTableName(), objectMapper);
+        if (jdbc.isInitializeSchema()) {
+            jdbcSource.initializeSchema();
+        }
+        if (jdbc.isImportClasspath()) {
+            // Keep bodies on-heap for the import; the table is the long-term store
+            jdbcSource.saveAll(new ClasspathContentSource(blogProperties, resourceResolver, markdownPostParser,
+                new BlogProperties.BodyStorage()).findAll());
+        }
+        return jdbcSource;
+    }
+
+    @Bean
+    public BlogService blogService(ContentSource blogContentSource) {
+        return new BlogService(blogContentSource);
+    }
+
+    @Bean
+    public HeroImageService heroImageService(BlogProperties blogProperties, ResourcePatternResolver resourceResolver) {
+        return new HeroImageService(blogProperties, resourceResolver);
+    }
+
+    @Bean
+    public StaticAssetService staticAssetService(BlogProperties blogProperties, ResourcePatternResolver resourceResolver) {
+        return new StaticAssetService(blogProperties, resourceResolver);
+    }
+
+    @Bean
+    public PreloadLinkService preloadLinkService(BlogProperties blogProperties, BlogService blogService,
+                                                 HeroImageService heroImageService,
+                                                 StaticAssetService staticAssetService) {
+        PreloadLinkService preloadLinkService =
+            new PreloadLinkService(blogProperties, blogService, heroImageService, staticAssetService);
+        // Hero hints are built with each corpus instead of on the first request that sees it
+        blogService.addLoadListener(preloadLinkService::prepare);
+        return preloadLinkService;
     }
 
     @Bean
@@ -28,12 +136,66 @@ public class BlogConfiguration {
 
     @Bean
     public BlogController blogController(BlogService blogService, BlogProperties blogProperties,
-                                         ObjectMapper objectMapper, UrlBuilder urlBuilder) {
-        return new BlogController(blogService, blogProperties, objectMapper, urlBuilder);
+                                         ObjectMapper objectMapper, UrlBuilder urlBuilder,
+                                         HeroImageService heroImageService, PreloadLinkService preloadLinkService,
+                                         StaticAssetService staticAssetService) {
+        return new BlogController(blogService, blogProperties, objectMapper, urlBuilder, heroImageService,
+            preloadLinkService, staticAssetService);
+    }
+
+    @Bean
+    public FeedService feedService(BlogService blogService, BlogProperties blogProperties) {
+        return new FeedService(blogService, blogProperties);
+    }
+
+    @Bean
+    public RssFeedController rssFeedController(FeedService feedService) {
+        return new RssFeedController(feedService);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PostBodyFilter> blogPostBodyFilter(BlogProperties blogProperties) {
+        FilterRegistrationBean<PostBodyFilter> registration = new FilterRegistrationBean<>(new PostBodyFilter());
+        registration.addUrlPatterns("/blog/*");
+        // Only needed when bodies live outside the post objects or are streamed
+        registration.setEnabled(blogProperties.getBodyStorage().getMode() != BlogProperties.BodyStorage.Mode.HEAP
+            || blogProperties.getStreaming().isEnabled());
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AssetUrlEncodingFilter> blogAssetUrlEncodingFilter(
+            BlogProperties blogProperties, StaticAssetService staticAssetService) {
+        FilterRegistrationBean<AssetUrlEncodingFilter> registration =
+            new FilterRegistrationBean<>(new AssetUrlEncodingFilter(staticAssetService));
+        registration.addUrlPatterns("/blog", "/blog/*");
+        registration.setEnabled(blogProperties.getAssets().isFingerprint());
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> blogServerTimingFilter(BlogProperties blogProperties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.addUrlPatterns("/blog", "/blog/*");
+        // Outside the other blog filters so their work counts towards render and total
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        registration.setEnabled(blogProperties.getServerTiming().isEnabled());
+        return registration;
+    }
+
+    @Bean
+    public HeroImageController heroImageController(HeroImageService heroImageService) {
+        return new HeroImageController(heroImageService);
+    }
+
+    @Bean
+    public StaticAssetController staticAssetController(StaticAssetService staticAssetService) {
+        return new StaticAssetController(staticAssetService);
     }
 
     @Bean
-    public RssFeedController rssFeedController(BlogService blogService, BlogProperties blogProperties) {
-        return new RssFeedController(blogService, blogProperties);
+    public BlogWarmup blogWarmup(BlogService blogService, RssFeedController rssFeedController,
+                                 BlogProperties blogProperties, ApplicationContext applicationContext) {
+        return new BlogWarmup(blogService, rssFeedController, blogProperties, applicationContext);
     }
 }
@@ -0,0 +1,33 @@
+package com.mindmeld360.blog.config;
+
+import com.mindmeld360.blog.actuate.BlogEndpoint;
+import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.service.HeroImageService;
+import com.mindmeld360.blog.service.PreloadLinkService;
+import com.mindmeld360.blog.web.BlogWarmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link BlogEndpoint} when Spring Boot Actuator is on the classpath.
+ * Imported by {@link BlogConfiguration}; the class-name condition keeps it inert otherwise.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class BlogEndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint
+    public BlogEndpoint blogEndpoint(BlogService blogService, FeedService feedService,
+                                     PreloadLinkService preloadLinkService, HeroImageService heroImageService,
+                                     ObjectProvider<BlogWarmup> blogWarmup) {
+        return new BlogEndpoint(blogService, feedService, preloadLinkService, heroImageService,
+            blogWarmup.getIfAvailable());
+    }
+}
@@ -4,8 +4,13 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "blog")
 @Validated
 public class BlogProperties {
@@ -24,6 +29,8 @@ public class BlogProperties {
     private String contentPath = "content/blog";
     private String defaultAuthor = "";
     private String mediumUrl = "";
+    @Min(value = 0, message = "blog.page-size must not be negative")
+    private int pageSize = 10;
 
     @Valid
     private Disqus disqus = new Disqus();
@@ -31,6 +38,28 @@ public class BlogProperties {
     private SocialSharing socialSharing = new SocialSharing();
     @Valid
     private Rss rss = new Rss();
+    @Valid
+    private HeroImages heroImages = new HeroImages();
+    @Valid
+    private Analysis analysis = new Analysis();
+    @Valid
+    private Jdbc jdbc = new Jdbc();
+    @Valid
+    private BodyStorage bodyStorage = new BodyStorage();
+    @Valid
+    private Cluster cluster = new Cluster();
+    @Valid
+    private Warmup warmup = new Warmup();
+    @Valid
+    private Preload preload = new Preload();
+    @Valid
+    private Assets assets = new Assets();
+    @Valid
+    private RenderBudget renderBudget = new RenderBudget();
+    @Valid
+    private ServerTiming serverTiming = new ServerTiming();
+    @Valid
+    private Streaming streaming = new Streaming();
 
     public static class Disqus {
         private boolean enabled = true;
@@ -78,6 +107,481 @@ public class BlogProperties {
         }
     }
 
+    public static class HeroImages {
+        private boolean enabled = false;
+        private List<String> sourceLocations = new ArrayList<>(List.of("classpath:/static/"));
+        private String cacheDir = "";
+        private List<Integer> widths = new ArrayList<>(List.of(400, 800));
+        private String cardSizes = "(max-width: 640px) 100vw, 400px";
+        private String postSizes = "(max-width: 800px) 100vw, 768px";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getSourceLocations() {
+            return sourceLocations;
+        }
+
+        public void setSourceLocations(List<String> sourceLocations) {
+            this.sourceLocations = sourceLocations != null ? sourceLocations : new ArrayList<>();
+        }
+
+        /**
+         * Directory for generated derivatives; falls back to a folder under java.io.tmpdir when blank.
+         */
+        public String getCacheDir() {
+            return cacheDir;
+        }
+
+        public void setCacheDir(String cacheDir) {
+            this.cacheDir = cacheDir;
+        }
+
+        public List<Integer> getWidths() {
+            return widths;
+        }
+
+        public void setWidths(List<Integer> widths) {
+            this.widths = widths != null ? widths : new ArrayList<>();
+        }
+
+        public String getCardSizes() {
+            return cardSizes;
+        }
+
+        public void setCardSizes(String cardSizes) {
+            this.cardSizes = cardSizes;
+        }
+
+        public String getPostSizes() {
+            return postSizes;
+        }
+
+        public void setPostSizes(String postSizes) {
+            this.postSizes = postSizes;
+        }
+    }
+
+    public static class Analysis {
+        @Min(value = 1, message = "blog.analysis.words-per-minute must be at least 1")
+        private int wordsPerMinute = 200;
+        private int excerptLength = 280;
+        private int tocMinHeadings = 3;
+
+        public int getWordsPerMinute() {
+            return wordsPerMinute;
+        }
+
+        public void setWordsPerMinute(int wordsPerMinute) {
+            this.wordsPerMinute = wordsPerMinute;
+        }
+
+        public int getExcerptLength() {
+            return excerptLength;
+        }
+
+        public void setExcerptLength(int excerptLength) {
+            this.excerptLength = excerptLength;
+        }
+
+        /**
+         * Minimum number of headings before the table of contents is shown; 0 hides it.
+         */
+        public int getTocMinHeadings() {
+            return tocMinHeadings;
+        }
+
+        public void setTocMinHeadings(int tocMinHeadings) {
+            this.tocMinHeadings = tocMinHeadings;
+        }
+    }
+
+    public static class Jdbc {
+        private boolean enabled = false;
+        @NotBlank(message = "blog.jdbc.table-name is required")
+        private String tableName = "blog_posts";
+        private boolean initializeSchema = true;
+        private boolean importClasspath = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public boolean isInitializeSchema() {
+            return initializeSchema;
+        }
+
+        public void setInitializeSchema(boolean initializeSchema) {
+            this.initializeSchema = initializeSchema;
+        }
+
+        /**
+         * Parse classpath markdown on startup and upsert it into the table.
+         */
+        public boolean isImportClasspath() {
+            return importClasspath;
+        }
+
+        public void setImportClasspath(boolean importClasspath) {
+            this.importClasspath = importClasspath;
+        }
+    }
+
+    public static class BodyStorage {
+        /**
+         * Where rendered post bodies are kept: HEAP (Strings), DIRECT (off-heap buffers)
+         * or MAPPED (a memory-mapped file).
+         */
+        public enum Mode { HEAP, DIRECT, MAPPED }
+
+        private Mode mode = Mode.HEAP;
+        private String directory = "";
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode != null ? mode : Mode.HEAP;
+        }
+
+        /**
+         * Directory for the MAPPED mode file; falls back to java.io.tmpdir when blank.
+         */
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+
+    public static class Cluster {
+        private boolean enabled = false;
+        private String sharedDirectory = "";
+        private Duration pollInterval = Duration.ofSeconds(10);
+        private Duration buildWait = Duration.ofMinutes(2);
+        @Min(1)
+        private int retainedSnapshots = 5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Directory visible to every node, used to publish rendered corpora and announce versions.
+         */
+        public String getSharedDirectory() {
+            return sharedDirectory;
+        }
+
+        public void setSharedDirectory(String sharedDirectory) {
+            this.sharedDirectory = sharedDirectory;
+        }
+
+        /**
+         * How often nodes check for a version announced by another node; 0 disables polling.
+         */
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval != null ? pollInterval : Duration.ZERO;
+        }
+
+        /**
+         * How long a node waits for another node's build before rendering itself;
+         * also the age after which an abandoned build claim is ignored.
+         */
+        public Duration getBuildWait() {
+            return buildWait;
+        }
+
+        public void setBuildWait(Duration buildWait) {
+            this.buildWait = buildWait != null ? buildWait : Duration.ZERO;
+        }
+
+        /**
+         * Published snapshots kept in the shared directory, newest first; older ones are deleted on publish.
+         */
+        public int getRetainedSnapshots() {
+            return retainedSnapshots;
+        }
+
+        public void setRetainedSnapshots(int retainedSnapshots) {
+            this.retainedSnapshots = retainedSnapshots;
+        }
+    }
+
+    public static class Warmup {
+        private boolean enabled = false;
+        @Min(0)
+        private int postCount = 5;
+        @Min(1)
+        private int rounds = 1;
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private String baseUrl = "";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Number of newest posts to request during warm-up.
+         */
+        public int getPostCount() {
+            return postCount;
+        }
+
+        public void setPostCount(int postCount) {
+            this.postCount = postCount;
+        }
+
+        /**
+         * How many times each page is requested; more rounds give the JIT more to work with.
+         */
+        public int getRounds() {
+            return rounds;
+        }
+
+        public void setRounds(int rounds) {
+            this.rounds = rounds;
+        }
+
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout != null ? requestTimeout : Duration.ofSeconds(10);
+        }
+
+        /**
+         * Where warm-up requests are sent; defaults to http://localhost on the embedded server port.
+         */
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+    }
+
+    public static class Preload {
+        private boolean enabled = false;
+        private String stylesheet = "/css/devx-blog.css";
+        private List<String> fonts = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Stylesheet to preload on blog pages; blank disables the stylesheet hint.
+         */
+        public String getStylesheet() {
+            return stylesheet;
+        }
+
+        public void setStylesheet(String stylesheet) {
+            this.stylesheet = stylesheet;
+        }
+
+        /**
+         * Font files to preload on blog pages (typically the woff2 files the consumer's head fragment uses).
+         */
+        public List<String> getFonts() {
+            return fonts;
+        }
+
+        public void setFonts(List<String> fonts) {
+            this.fonts = fonts != null ? fonts : new ArrayList<>();
+        }
+    }
+
+    public static class Assets {
+        private boolean fingerprint = false;
+        private boolean inlineCriticalCss = false;
+
+        /**
+         * Serve the library stylesheet under a content-hashed URL with an immutable Cache-Control.
+         */
+        public boolean isFingerprint() {
+            return fingerprint;
+        }
+
+        public void setFingerprint(boolean fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * Inline the above-the-fold CSS into blog pages and load the full stylesheet asynchronously.
+         */
+        public boolean isInlineCriticalCss() {
+            return inlineCriticalCss;
+        }
+
+        public void setInlineCriticalCss(boolean inlineCriticalCss) {
+            this.inlineCriticalCss = inlineCriticalCss;
+        }
+    }
+
+    public static class RenderBudget {
+        /**
+         * What to do with a post that exceeds the node, depth or render-time limit:
+         * SKIP it (like invalid front matter) or DEGRADE it to escaped plain text.
+         * Posts over the byte limit are always skipped.
+         */
+        public enum Action { SKIP, DEGRADE }
+
+        private DataSize maxBytes = DataSize.ofMegabytes(1);
+        @Min(0)
+        private int maxNodes = 200_000;
+        @Min(0)
+        private int maxDepth = 200;
+        private Duration maxRenderTime = Duration.ofSeconds(2);
+        private Action onExceeded = Action.DEGRADE;
+
+        /**
+         * Largest markdown file that is parsed at all; 0 for no limit.
+         */
+        public DataSize getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(DataSize maxBytes) {
+            this.maxBytes = maxBytes != null ? maxBytes : DataSize.ofBytes(0);
+        }
+
+        /**
+         * Largest number of markdown AST nodes per post; 0 for no limit.
+         */
+        public int getMaxNodes() {
+            return maxNodes;
+        }
+
+        public void setMaxNodes(int maxNodes) {
+            this.maxNodes = maxNodes;
+        }
+
+        /**
+         * Deepest block/inline nesting per post; 0 for no limit.
+         */
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        public void setMaxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+        }
+
+        /**
+         * Longest time HTML rendering of one post may take; 0 for no limit.
+         */
+        public Duration getMaxRenderTime() {
+            return maxRenderTime;
+        }
+
+        public void setMaxRenderTime(Duration maxRenderTime) {
+            this.maxRenderTime = maxRenderTime != null ? maxRenderTime : Duration.ZERO;
+        }
+
+        public Action getOnExceeded() {
+            return onExceeded;
+        }
+
+        public void setOnExceeded(Action onExceeded) {
+            this.onExceeded = onExceeded != null ? onExceeded : Action.DEGRADE;
+        }
+    }
+
+    public static class ServerTiming {
+        private boolean enabled = false;
+
+        /**
+         * Add a Server-Timing header with per-phase durations and cache hits to blog responses.
+         * Responses are buffered while enabled so that rendering time can be included.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Streaming {
+        private boolean enabled = false;
+        private DataSize minBodySize = DataSize.ofKilobytes(32);
+        private DataSize chunkSize = DataSize.ofKilobytes(16);
+
+        /**
+         * Flush the page head and post header before writing a large post body, then send the body in chunks.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Rendered bodies smaller than this are written in one piece.
+         */
+        public DataSize getMinBodySize() {
+            return minBodySize;
+        }
+
+        public void setMinBodySize(DataSize minBodySize) {
+            this.minBodySize = minBodySize != null ? minBodySize : DataSize.ofKilobytes(32);
+        }
+
+        /**
+         * Amount of body written between flushes.
+         */
+        public DataSize getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(DataSize chunkSize) {
+            this.chunkSize = chunkSize != null ? chunkSize : DataSize.ofKilobytes(16);
+        }
+    }
+
     // Getters and Setters
 
     public String getTitle() {
@@ -140,6 +644,17 @@ public class BlogProperties {
         this.mediumUrl = mediumUrl;
     }
 
+    /**
+     * Posts per index page; 0 lists every post on one page, which the JDBC content source rejects.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
     public Disqus getDisqus() {
         return disqus;
     }
@@ -163,4 +678,92 @@ public class BlogProperties {
     public void setRss(Rss rss) {
         this.rss = rss != null ? rss : new Rss();
     }
+
+    public HeroImages getHeroImages() {
+        return heroImages;
+    }
+
+    public void setHeroImages(HeroImages heroImages) {
+        this.heroImages = heroImages != null ? heroImages : new HeroImages();
+    }
+
+    public Analysis getAnalysis() {
+        return analysis;
+    }
+
+    public void setAnalysis(Analysis analysis) {
+        this.analysis = analysis != null ? analysis : new Analysis();
+    }
+
+    public Jdbc getJdbc() {
+        return jdbc;
+    }
+
+    public void setJdbc(Jdbc jdbc) {
+        this.jdbc = jdbc != null ? jdbc : new Jdbc();
+    }
+
+    public BodyStorage getBodyStorage() {
+        return bodyStorage;
+    }
+
+    public void setBodyStorage(BodyStorage bodyStorage) {
+        this.bodyStorage = bodyStorage != null ? bodyStorage : new BodyStorage();
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(Cluster cluster) {
+        this.cluster = cluster != null ? cluster : new Cluster();
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(Warmup warmup) {
+        this.warmup = warmup != null ? warmup : new Warmup();
+    }
+
+    public Preload getPreload() {
+        return preload;
+    }
+
+    public void setPreload(Preload preload) {
+        this.preload = preload != null ? preload : new Preload();
+    }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
+    public void setAssets(Assets assets) {
+        this.assets = assets != null ? assets : new Assets();
+    }
+
+    public RenderBudget getRenderBudget() {
+        return renderBudget;
+    }
+
+    public void setRenderBudget(RenderBudget renderBudget) {
+        this.renderBudget = renderBudget != null ? renderBudget : new RenderBudget();
+    }
+
+    public ServerTiming getServerTiming() {
+        return serverTiming;
+    }
+
+    public void setServerTiming(ServerTiming serverTiming) {
+        this.serverTiming = serverTiming != null ? serverTiming : new ServerTiming();
+    }
+
+    public Streaming getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Streaming streaming) {
+        this.streaming = streaming != null ? streaming : new Streaming();
+    }
 }
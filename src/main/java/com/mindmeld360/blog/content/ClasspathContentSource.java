@@ -0,0 +1,343 @@
+package com.mindmeld360.blog.content;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.CorpusLoadReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Default content source: markdown files under {@code classpath*:<blog.content-path>/*.md}.
+ *
+ * Classpath content cannot change while the application runs, so the corpus is parsed
+ * once on first access and kept until {@link #reload()}. With {@code blog.body-storage.mode}
+ * DIRECT or MAPPED, rendered bodies move into an {@link EncodedBodyStore} and the markdown
+ * source is dropped from the served posts.
+ *
+ * With an {@link InvalidationChannel}, the source hashes the markdown into a {@link ContentManifest}
+ * and renders only if no other node has published that version; otherwise it loads the
+ * published snapshot. Versions announced later by other nodes replace the corpus in place, but
+ * only when the announced version matches the markdown this node currently sees on its own
+ * classpath and its own rendering settings, so a node never serves posts it would not render.
+ *
+ * With AOT-generated artifacts (native images), files are located through the {@link CorpusIndex}
+ * built at compile time rather than by scanning the classpath.
+ */
+public class ClasspathContentSource implements ContentSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ClasspathContentSource.class);
+
+    private final BlogProperties blogProperties;
+    private final ResourcePatternResolver resourceResolver;
+    private final MarkdownPostParser postParser;
+    private final BlogProperties.BodyStorage bodyStorage;
+    private final InvalidationChannel invalidationChannel;
+    private final CorpusIndex corpusIndex;
+    private final List<BiConsumer<String, List<BlogPost>>> loadListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Corpus corpus;
+
+    public ClasspathContentSource(BlogProperties blogProperties, ResourcePatternResolver resourceResolver,
+                                  MarkdownPostParser postParser) {
+        this(blogProperties, resourceResolver, postParser, blogProperties.getBodyStorage());
+    }
+
+    public ClasspathContentSource(BlogProperties blogProperties, ResourcePatternResolver resourceResolver,
+                                  MarkdownPostParser postParser, BlogProperties.BodyStorage bodyStorage) {
+        this(blogProperties, resourceResolver, postParser, bodyStorage, null);
+    }
+
+    /**
+     * @param invalidationChannel shares rendered corpora with other nodes; null renders locally
+     */
+    public ClasspathContentSource(BlogProperties blogProperties, ResourcePatternResolver resourceResolver,
+                                  MarkdownPostParser postParser, BlogProperties.BodyStorage bodyStorage,
+                                  InvalidationChannel invalidationChannel) {
+        this(blogProperties, resourceResolver, postParser, bodyStorage, invalidationChannel, null);
+    }
+
+    /**
+     * @param invalidationChannel shares rendered corpora with other nodes; null renders locally
+     * @param corpusIndex         files found at build time, used instead of scanning the classpath; may be null
+     */
+    public ClasspathContentSource(BlogProperties blogProperties, ResourcePatternResolver resourceResolver,
+                                  MarkdownPostParser postParser, BlogProperties.BodyStorage bodyStorage,
+                                  InvalidationChannel invalidationChannel, CorpusIndex corpusIndex) {
+        this.blogProperties = blogProperties;
+        this.resourceResolver = resourceResolver;
+        this.postParser = postParser;
+        this.bodyStorage = bodyStorage;
+        this.invalidationChannel = invalidationChannel;
+        this.corpusIndex = corpusIndex;
+        if (invalidationChannel != null) {
+            invalidationChannel.subscribe(this::onVersionAnnounced);
+        }
+    }
+
+    @Override
+    public List<BlogPost> findPosts(int offset, int limit) {
+        List<BlogPost> posts = corpus().posts();
+        int from = Math.min(Math.max(offset, 0), posts.size());
+        int to = (int) Math.min((long) from + Math.max(limit, 0), posts.size());
+        return posts.subList(from, to);
+    }
+
+    @Override
+    public Optional<BlogPost> findBySlug(String slug) {
+        return Optional.ofNullable(corpus().bySlug().get(slug));
+    }
+
+    @Override
+    public Optional<ByteBuffer> findEncodedBody(String slug) {
+        EncodedBodyStore bodies = corpus().bodies();
+        return bodies != null ? bodies.get(slug) : Optional.empty();
+    }
+
+    @Override
+    public int countPosts() {
+        return corpus().posts().size();
+    }
+
+    @Override
+    public List<BlogPost> findAll() {
+        return corpus().posts();
+    }
+
+    @Override
+    public Optional<ContentManifest> getManifest() {
+        return Optional.of(corpus().manifest());
+    }
+
+    @Override
+    public Optional<CorpusLoadReport> getLoadReport() {
+        return Optional.of(corpus().report());
+    }
+
+    @Override
+    public void reload() {
+        corpus = null;
+    }
+
+    @Override
+    public void addLoadListener(BiConsumer<String, List<BlogPost>> listener) {
+        loadListeners.add(listener);
+    }
+
+    private Corpus corpus() {
+        Corpus current = corpus;
+        if (current == null) {
+            synchronized (this) {
+                current = corpus;
+                if (current == null) {
+                    current = load();
+                    notifyLoaded(current);
+                    corpus = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Corpus load() {
+        log.info("Loading blog posts from classpath: {}", blogProperties.getContentPath());
+
+        LoadStats stats = new LoadStats();
+        Map<String, byte[]> sources = readSources(stats);
+        stats.files = sources.size() + stats.failures.size();
+
+        ContentManifest manifest = manifestOf(sources);
+        if (invalidationChannel == null) {
+            return toCorpus(manifest, parse(sources, stats), stats);
+        }
+
+        Optional<CorpusSnapshot> published = invalidationChannel.load(manifest.version());
+        if (published.isEmpty() && !invalidationChannel.tryClaim(manifest.version())) {
+            published = invalidationChannel.await(manifest.version());
+        }
+        if (published.isPresent()) {
+            stats.origin = "snapshot";
+            return toCorpus(manifest, published.get().posts(), stats);
+        }
+
+        List<BlogPost> posts = parse(sources, stats);
+        invalidationChannel.publish(new CorpusSnapshot(manifest, posts,
+            ManagementFactory.getRuntimeMXBean().getName(), Instant.now()));
+        return toCorpus(manifest, posts, stats);
+    }
+
+    private Map<String, byte[]> readSources(LoadStats stats) {
+        Map<String, byte[]> sources = new LinkedHashMap<>();
+        try {
+            Resource[] resources = findMarkdown();
+            log.info("Found {} markdown files", resources.length);
+
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename == null || sources.containsKey(filename)) {
+                    continue;
+                }
+                try {
+                    // Before reading, so an oversized file never reaches the heap
+                    String oversized = postParser.checkSize(resource.contentLength());
+                    if (oversized != null) {
+                        log.warn("Skipping post {}: {}", filename, oversized);
+                        stats.failures.add(new CorpusLoadReport.Failure(filename, oversized));
+                        continue;
+                    }
+                } catch (IOException e) {
+                    log.debug("Cannot determine the size of {}: {}", filename, e.getMessage());
+                }
+                try (var inputStream = resource.getInputStream()) {
+                    byte[] bytes = inputStream.readAllBytes();
+                    sources.put(filename, bytes);
+                } catch (IOException e) {
+                    log.warn("Failed to read blog post from {}: {}", filename, e.getMessage());
+                    stats.failures.add(new CorpusLoadReport.Failure(filename, "unreadable: " + e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to load blog posts: {}", e.getMessage());
+        }
+        return sources;
+    }
+
+    private ContentManifest manifestOf(Map<String, byte[]> sources) {
+        Map<String, String> hashes = new HashMap<>();
+        sources.forEach((filename, bytes) -> hashes.put(filename, ContentManifest.hash(bytes)));
+        return ContentManifest.of(hashes, postParser.renderSettings());
+    }
+
+    private Resource[] findMarkdown() throws IOException {
+        String contentPath = blogProperties.getContentPath();
+        if (corpusIndex != null) {
+            if (corpusIndex.contentPath().equals(contentPath)) {
+                return corpusIndex.locations().stream()
+                    .map(location -> resourceResolver.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + location))
+                    .toArray(Resource[]::new);
+            }
+            log.warn("Blog corpus index was built for {}, not {}; scanning the classpath",
+                corpusIndex.contentPath(), contentPath);
+        }
+        return resourceResolver.getResources("classpath*:" + contentPath + "/*.md");
+    }
+
+    private List<BlogPost> parse(Map<String, byte[]> sources, LoadStats stats) {
+        List<BlogPost> posts = new ArrayList<>();
+        sources.forEach((filename, bytes) -> {
+            long start = System.nanoTime();
+            try {
+                BlogPost post = postParser.parse(filename, new String(bytes, StandardCharsets.UTF_8),
+                    reason -> stats.failures.add(new CorpusLoadReport.Failure(filename, reason)));
+                if (post != null && !post.draft()) {
+                    posts.add(post);
+                    stats.renderTimes.put(post.slug(), Duration.ofNanos(System.nanoTime() - start));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to parse blog post from {}: {}", filename, e.getMessage());
+                stats.failures.add(new CorpusLoadReport.Failure(filename, "parse error: " + e.getMessage()));
+            }
+        });
+
+        posts.sort(Comparator.comparing(BlogPost::pubDate).reversed()
+            .thenComparing(BlogPost::slug));
+
+        log.info("Loaded {} published blog posts", posts.size());
+        return posts;
+    }
+
+    private Corpus toCorpus(ContentManifest manifest, List<BlogPost> rendered, LoadStats stats) {
+        List<CorpusLoadReport.PostStats> postStats = new ArrayList<>(rendered.size());
+        long htmlBytes = 0;
+        for (BlogPost post : rendered) {
+            long size = post.htmlContent() != null ? post.htmlContent().getBytes(StandardCharsets.UTF_8).length : 0;
+            Object degraded = post.analysis().getAttribute(MarkdownPostParser.DEGRADED_ATTRIBUTE);
+            postStats.add(new CorpusLoadReport.PostStats(post.slug(), stats.renderTimes.get(post.slug()),
+                size, degraded != null ? degraded.toString() : null));
+            htmlBytes += size;
+        }
+
+        List<BlogPost> posts = new ArrayList<>(rendered);
+        EncodedBodyStore bodies = null;
+        if (bodyStorage.getMode() != BlogProperties.BodyStorage.Mode.HEAP) {
+            EncodedBodyStore.Builder builder = EncodedBodyStore.builder(bodyStorage);
+            posts.replaceAll(post -> {
+                builder.add(post.slug(), post.htmlContent());
+                // The markdown source is only needed for rendering and analysis, both done by now
+                return post.withContent("", "");
+            });
+            bodies = builder.build();
+            log.info("Stored {} bytes of rendered HTML off-heap ({})", bodies.getTotalBytes(), bodyStorage.getMode());
+        }
+
+        CorpusLoadReport report = new CorpusLoadReport(Instant.now(),
+            Duration.ofNanos(System.nanoTime() - stats.start), stats.origin, stats.files, htmlBytes,
+            postStats, stats.failures);
+        return new Corpus(manifest, List.copyOf(posts),
+            posts.stream().collect(Collectors.toUnmodifiableMap(BlogPost::slug, Function.identity(), (a, b) -> a)),
+            bodies, report);
+    }
+
+    private void onVersionAnnounced(String version) {
+        Corpus current = corpus;
+        if (current == null || current.manifest().version().equals(version)) {
+            // Not loaded yet (the first request picks its version) or already serving it
+            return;
+        }
+        // Re-hash the local markdown first: another node may run other content or settings than this one
+        ContentManifest local = manifestOf(readSources(new LoadStats()));
+        if (!local.version().equals(version)) {
+            log.info("Ignoring blog corpus {}: local content and settings are {}", version, local.version());
+            return;
+        }
+        invalidationChannel.load(version).ifPresent(snapshot -> {
+            LoadStats stats = new LoadStats();
+            stats.origin = "snapshot";
+            stats.files = snapshot.posts().size();
+            Corpus swapped = toCorpus(local, snapshot.posts(), stats);
+            notifyLoaded(swapped);
+            corpus = swapped;
+            log.info("Swapped blog corpus {} for {}", current.manifest().version(), version);
+        });
+    }
+
+    private void notifyLoaded(Corpus loaded) {
+        for (BiConsumer<String, List<BlogPost>> listener : loadListeners) {
+            try {
+                listener.accept(loaded.manifest().version(), loaded.posts());
+            } catch (RuntimeException e) {
+                // Derived data is an optimization; never fail the load over it
+                log.warn("Blog corpus load listener failed: {}", e.toString());
+            }
+        }
+    }
+
+    private record Corpus(ContentManifest manifest, List<BlogPost> posts, Map<String, BlogPost> bySlug,
+                          EncodedBodyStore bodies, CorpusLoadReport report) {
+    }
+
+    /**
+     * Collects load statistics while files are read and parsed.
+     */
+    private static final class LoadStats {
+        private final long start = System.nanoTime();
+        private final Map<String, Duration> renderTimes = new HashMap<>();
+        private final List<CorpusLoadReport.Failure> failures = new ArrayList<>();
+        private String origin = "rendered";
+        private int files;
+    }
+}
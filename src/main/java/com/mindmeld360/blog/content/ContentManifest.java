@@ -0,0 +1,76 @@
+package com.mindmeld360.blog.content;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Identifies one version of the markdown corpus.
+ *
+ * Each source file is hashed (SHA-256 of its bytes) and the version is a hash over the
+ * rendering settings and the sorted file names and file hashes, so every node that sees the
+ * same files with the same settings computes the same version without talking to the others.
+ *
+ * @param version hex hash identifying the whole corpus
+ * @param files   file name to hex SHA-256 of its content, sorted by name
+ */
+public record ContentManifest(String version, Map<String, String> files) {
+
+    // Bump when the rendered output changes for identical markdown
+    private static final String FORMAT = "devx-blog-corpus-1";
+
+    public ContentManifest {
+        files = Collections.unmodifiableMap(new TreeMap<>(files != null ? files : Map.of()));
+    }
+
+    /**
+     * Computes the manifest for a set of file hashes rendered with default settings.
+     *
+     * @param files file name to hex SHA-256, as returned by {@link #hash(byte[])}
+     */
+    public static ContentManifest of(Map<String, String> files) {
+        return of(files, "");
+    }
+
+    /**
+     * Computes the manifest for a set of file hashes.
+     *
+     * @param files    file name to hex SHA-256, as returned by {@link #hash(byte[])}
+     * @param settings settings that change the rendered output, as returned by
+     *                 {@link MarkdownPostParser#renderSettings()}
+     */
+    public static ContentManifest of(Map<String, String> files, String settings) {
+        Map<String, String> sorted = new TreeMap<>(files);
+        MessageDigest digest = sha256();
+        digest.update(FORMAT.getBytes(StandardCharsets.UTF_8));
+        Package pkg = ContentManifest.class.getPackage();
+        if (pkg != null && pkg.getImplementationVersion() != null) {
+            digest.update(pkg.getImplementationVersion().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        sorted.forEach((name, hash) -> {
+            digest.update((byte) 0);
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(hash.getBytes(StandardCharsets.UTF_8));
+        });
+        return new ContentManifest(HexFormat.of().formatHex(digest.digest(), 0, 16), sorted);
+    }
+
+    public static String hash(byte[] content) {
+        return HexFormat.of().formatHex(sha256().digest(content));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mindmeld360.blog.content;
+
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.CorpusLoadReport;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Where published blog posts come from.
+ *
+ * Implementations return published (non-draft) posts only, ordered by publication
+ * date descending and then by slug. {@link ClasspathContentSource} is the default;
+ * {@link JdbcContentSource} serves archives too large to keep in memory.
+ */
+public interface ContentSource {
+
+    /**
+     * Returns one page of published posts, newest first.
+     *
+     * Listing results may omit {@code content} and {@code htmlContent} to keep pages light;
+     * use {@link #findBySlug(String)} for the full post.
+     *
+     * @param offset number of posts to skip
+     * @param limit  maximum number of posts to return
+     */
+    List<BlogPost> findPosts(int offset, int limit);
+
+    Optional<BlogPost> findBySlug(String slug);
+
+    int countPosts();
+
+    /**
+     * Returns every published post. Sources for large archives should prefer paging.
+     */
+    default List<BlogPost> findAll() {
+        return findPosts(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the post's rendered body as pre-encoded UTF-8 when the source keeps bodies
+     * outside the post object (in which case {@link BlogPost#htmlContent()} is empty).
+     */
+    default Optional<ByteBuffer> findEncodedBody(String slug) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the version of the content currently served, for sources that track one.
+     */
+    default Optional<ContentManifest> getManifest() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns statistics about the last load, for sources that load their whole corpus at once.
+     */
+    default Optional<CorpusLoadReport> getLoadReport() {
+        return Optional.empty();
+    }
+
+    /**
+     * Registers a callback run with the version and posts of each corpus the source loads or swaps in,
+     * before that corpus is served, so derived data can be prepared alongside it.
+     * Sources that do not load a whole corpus never call it.
+     */
+    default void addLoadListener(BiConsumer<String, List<BlogPost>> listener) {
+    }
+
+    /**
+     * Discards anything the source has cached so the next call sees current content.
+     */
+    default void reload() {
+    }
+}
@@ -0,0 +1,42 @@
+package com.mindmeld360.blog.content;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The markdown files found under the content path when the application was built.
+ *
+ * Native images cannot reliably list {@code classpath*:} directories, so the AOT processor
+ * scans at build time and registers the result as a bean in the generated initialization code;
+ * {@link ClasspathContentSource} then loads the indexed files instead of scanning.
+ *
+ * @param contentPath the {@code blog.content-path} the index was built for
+ * @param locations   classpath locations such as {@code content/blog/hello.md}, sorted
+ */
+public record CorpusIndex(String contentPath, List<String> locations) {
+
+    public static final String BEAN_NAME = "blogCorpusIndex";
+
+    public CorpusIndex {
+        locations = locations != null ? List.copyOf(locations) : List.of();
+    }
+
+    /**
+     * Scans the classpath for markdown files under {@code contentPath}, keeping the first of duplicate names.
+     */
+    public static CorpusIndex scan(ResourcePatternResolver resolver, String contentPath) throws IOException {
+        Set<String> locations = new LinkedHashSet<>();
+        for (Resource resource : resolver.getResources("classpath*:" + contentPath + "/*.md")) {
+            String filename = resource.getFilename();
+            if (filename != null) {
+                locations.add(contentPath + "/" + filename);
+            }
+        }
+        return new CorpusIndex(contentPath, locations.stream().sorted().toList());
+    }
+}
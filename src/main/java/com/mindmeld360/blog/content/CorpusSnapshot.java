@@ -0,0 +1,21 @@
+package com.mindmeld360.blog.content;
+
+import com.mindmeld360.blog.model.BlogPost;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A fully rendered corpus as one node publishes it for the others to load.
+ *
+ * @param manifest the corpus version the posts were rendered from
+ * @param posts    published posts with rendered HTML, in listing order
+ * @param builtBy  identifier of the node that rendered the corpus
+ * @param builtAt  when rendering finished
+ */
+public record CorpusSnapshot(ContentManifest manifest, List<BlogPost> posts, String builtBy, Instant builtAt) {
+
+    public CorpusSnapshot {
+        posts = posts != null ? List.copyOf(posts) : List.of();
+    }
+}
@@ -0,0 +1,131 @@
+package com.mindmeld360.blog.content;
+
+import com.mindmeld360.blog.config.BlogProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Rendered post bodies kept outside the Java heap as pre-encoded UTF-8.
+ *
+ * All bodies of one corpus share a single direct buffer or a single memory-mapped file,
+ * and each post gets a read-only slice. Responses copy bytes straight from the slice,
+ * so bodies are neither re-encoded per request nor part of the long-lived heap graph.
+ * A store is immutable; a corpus reload builds a new one.
+ */
+public final class EncodedBodyStore {
+
+    private final Map<String, ByteBuffer> bodies;
+    private final long totalBytes;
+
+    private EncodedBodyStore(Map<String, ByteBuffer> bodies, long totalBytes) {
+        this.bodies = bodies;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Returns an independent read-only view of a post body, positioned at its start.
+     */
+    public Optional<ByteBuffer> get(String slug) {
+        ByteBuffer body = bodies.get(slug);
+        return body != null ? Optional.of(body.duplicate()) : Optional.empty();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int size() {
+        return bodies.size();
+    }
+
+    public static Builder builder(BlogProperties.BodyStorage settings) {
+        return new Builder(settings);
+    }
+
+    public static class Builder {
+        private final BlogProperties.BodyStorage settings;
+        private final Map<String, byte[]> encoded = new LinkedHashMap<>();
+        private long totalBytes;
+
+        private Builder(BlogProperties.BodyStorage settings) {
+            if (settings.getMode() == BlogProperties.BodyStorage.Mode.HEAP) {
+                throw new IllegalArgumentException("EncodedBodyStore requires DIRECT or MAPPED mode");
+            }
+            this.settings = settings;
+        }
+
+        public Builder add(String slug, String html) {
+            byte[] bytes = (html != null ? html : "").getBytes(StandardCharsets.UTF_8);
+            byte[] previous = encoded.put(slug, bytes);
+            totalBytes += bytes.length - (previous != null ? previous.length : 0);
+            return this;
+        }
+
+        public EncodedBodyStore build() {
+            if (totalBytes > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Rendered bodies exceed 2 GB; use the JDBC content source");
+            }
+            ByteBuffer backing = settings.getMode() == BlogProperties.BodyStorage.Mode.MAPPED
+                ? mapFile()
+                : allocateDirect();
+
+            Map<String, ByteBuffer> bodies = new HashMap<>(encoded.size() * 2);
+            int offset = 0;
+            for (Map.Entry<String, byte[]> entry : encoded.entrySet()) {
+                int length = entry.getValue().length;
+                bodies.put(entry.getKey(), backing.slice(offset, length).asReadOnlyBuffer());
+                offset += length;
+            }
+            return new EncodedBodyStore(Collections.unmodifiableMap(bodies), totalBytes);
+        }
+
+        private ByteBuffer allocateDirect() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) totalBytes);
+            encoded.values().forEach(buffer::put);
+            return buffer;
+        }
+
+        private ByteBuffer mapFile() {
+            try {
+                String configured = settings.getDirectory();
+                Path directory = configured == null || configured.isBlank()
+                    ? Path.of(System.getProperty("java.io.tmpdir"))
+                    : Files.createDirectories(Path.of(configured));
+                Path file = Files.createTempFile(directory, "devx-blog-bodies-", ".bin");
+                file.toFile().deleteOnExit();
+
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    for (byte[] bytes : encoded.values()) {
+                        ByteBuffer source = ByteBuffer.wrap(bytes);
+                        while (source.hasRemaining()) {
+                            channel.write(source);
+                        }
+                    }
+                    // The mapping stays valid after the channel is closed
+                    ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, totalBytes);
+                    deleteQuietly(file);
+                    return mapped;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map rendered post bodies", e);
+            }
+        }
+
+        private static void deleteQuietly(Path file) {
+            try {
+                // Unlinking a mapped file is fine on POSIX; elsewhere deleteOnExit cleans up
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // Still mapped on this platform
+            }
+        }
+    }
+}
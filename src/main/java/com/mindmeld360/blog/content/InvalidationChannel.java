@@ -0,0 +1,51 @@
+package com.mindmeld360.blog.content;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Coordinates corpus builds between the nodes serving the same blog.
+ *
+ * For a given {@link ContentManifest#version()} at most one node renders the corpus and
+ * {@linkplain #publish publishes} it; the others {@linkplain #load load} the snapshot
+ * instead of rendering. Publishing also announces the version, and subscribers swap to
+ * the announced snapshot, so the fleet converges on one corpus without every node
+ * re-rendering it.
+ *
+ * {@link SharedDirectoryInvalidationChannel} works over any directory all nodes can see.
+ */
+public interface InvalidationChannel extends AutoCloseable {
+
+    /**
+     * Returns the published snapshot for a version, if any node has built it.
+     */
+    Optional<CorpusSnapshot> load(String version);
+
+    /**
+     * Tries to become the node that builds a version.
+     *
+     * @return true if the caller should build and publish; false if another node is already building it
+     */
+    boolean tryClaim(String version);
+
+    /**
+     * Waits for another node to publish a version this node could not claim.
+     *
+     * @return the snapshot, or empty if it did not appear in time (the caller then builds locally)
+     */
+    Optional<CorpusSnapshot> await(String version);
+
+    /**
+     * Stores a snapshot for other nodes and announces its version as current.
+     */
+    void publish(CorpusSnapshot snapshot);
+
+    /**
+     * Registers a listener called with each version announced by another node.
+     */
+    void subscribe(Consumer<String> listener);
+
+    @Override
+    default void close() {
+    }
+}
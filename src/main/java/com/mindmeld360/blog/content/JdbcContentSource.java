@@ -0,0 +1,228 @@
+package com.mindmeld360.blog.content;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.PostAnalysis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content source backed by a relational table holding front matter in indexed columns
+ * and the pre-rendered HTML body.
+ *
+ * Listing queries page through the {@code (draft, pub_date, slug)} index and do not read
+ * post bodies, so memory use is bounded by the page size rather than the archive size.
+ * The bundled DDL targets H2; on other databases create the table yourself and set
+ * {@code blog.jdbc.initialize-schema=false}.
+ */
+public class JdbcContentSource implements ContentSource {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcContentSource.class);
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final String SUMMARY_COLUMNS =
+        "slug, title, description, pub_date, updated_date, hero_image, author, tags, draft, analysis_json";
+
+    private final DataSource dataSource;
+    private final String tableName;
+    private final ObjectMapper objectMapper;
+
+    public JdbcContentSource(DataSource dataSource, String tableName, ObjectMapper objectMapper) {
+        if (tableName == null || !TABLE_NAME.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("Invalid blog table name: " + tableName);
+        }
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates the posts table and its listing index if they do not exist.
+     */
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                + "slug VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + "title VARCHAR(1000) NOT NULL, "
+                + "description VARCHAR(4000), "
+                + "pub_date DATE NOT NULL, "
+                + "updated_date DATE, "
+                + "hero_image VARCHAR(2000), "
+                + "author VARCHAR(255), "
+                + "tags VARCHAR(2000), "
+                + "draft BOOLEAN NOT NULL, "
+                + "content CLOB, "
+                + "html_content CLOB, "
+                + "analysis_json CLOB)");
+            statement.execute("CREATE INDEX IF NOT EXISTS " + tableName + "_listing_idx ON "
+                + tableName + " (draft, pub_date DESC, slug)");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to initialize blog table " + tableName, e);
+        }
+    }
+
+    @Override
+    public List<BlogPost> findPosts(int offset, int limit) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM " + tableName
+            + " WHERE draft = FALSE ORDER BY pub_date DESC, slug ASC LIMIT ? OFFSET ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, Math.max(limit, 0));
+            statement.setInt(2, Math.max(offset, 0));
+            try (ResultSet rs = statement.executeQuery()) {
+                List<BlogPost> posts = new ArrayList<>();
+                while (rs.next()) {
+                    posts.add(mapPost(rs, false));
+                }
+                return posts;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to list blog posts", e);
+        }
+    }
+
+    @Override
+    public Optional<BlogPost> findBySlug(String slug) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + ", content, html_content FROM " + tableName
+            + " WHERE slug = ? AND draft = FALSE";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, slug);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(mapPost(rs, true)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load blog post " + slug, e);
+        }
+    }
+
+    @Override
+    public int countPosts() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + tableName + " WHERE draft = FALSE")) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to count blog posts", e);
+        }
+    }
+
+    /**
+     * Inserts or replaces posts (drafts included) in a single transaction.
+     */
+    public void saveAll(Collection<BlogPost> posts) {
+        String delete = "DELETE FROM " + tableName + " WHERE slug = ?";
+        String insert = "INSERT INTO " + tableName + " (" + SUMMARY_COLUMNS + ", content, html_content)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement deleteStatement = connection.prepareStatement(delete);
+                 PreparedStatement insertStatement = connection.prepareStatement(insert)) {
+                for (BlogPost post : posts) {
+                    deleteStatement.setString(1, post.slug());
+                    deleteStatement.addBatch();
+                    bindPost(insertStatement, post);
+                    insertStatement.addBatch();
+                }
+                deleteStatement.executeBatch();
+                insertStatement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to save blog posts", e);
+        }
+        log.info("Saved {} blog posts to {}", posts.size(), tableName);
+    }
+
+    public void save(BlogPost post) {
+        saveAll(List.of(post));
+    }
+
+    public boolean delete(String slug) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM " + tableName + " WHERE slug = ?")) {
+            statement.setString(1, slug);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to delete blog post " + slug, e);
+        }
+    }
+
+    private void bindPost(PreparedStatement statement, BlogPost post) throws SQLException {
+        statement.setString(1, post.slug());
+        statement.setString(2, post.title());
+        statement.setString(3, post.description());
+        statement.setDate(4, Date.valueOf(post.pubDate()));
+        statement.setDate(5, post.updatedDate() != null ? Date.valueOf(post.updatedDate()) : null);
+        statement.setString(6, post.heroImage());
+        statement.setString(7, post.author());
+        statement.setString(8, String.join("\n", post.tags()));
+        statement.setBoolean(9, post.draft());
+        statement.setString(10, writeAnalysis(post.analysis()));
+        statement.setString(11, post.content());
+        statement.setString(12, post.htmlContent());
+    }
+
+    private BlogPost mapPost(ResultSet rs, boolean withBody) throws SQLException {
+        Date updated = rs.getDate("updated_date");
+        String tags = rs.getString("tags");
+        return new BlogPost(
+            rs.getString("slug"),
+            rs.getString("title"),
+            rs.getString("description"),
+            withBody ? rs.getString("content") : "",
+            withBody ? rs.getString("html_content") : "",
+            rs.getDate("pub_date").toLocalDate(),
+            updated != null ? updated.toLocalDate() : null,
+            rs.getString("hero_image"),
+            rs.getString("author"),
+            tags == null || tags.isEmpty() ? List.of() : List.of(tags.split("\n")),
+            rs.getBoolean("draft"),
+            readAnalysis(rs.getString("analysis_json"))
+        );
+    }
+
+    private String writeAnalysis(PostAnalysis analysis) {
+        try {
+            return objectMapper.writeValueAsString(analysis);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize post analysis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private PostAnalysis readAnalysis(String json) {
+        if (json == null || json.isBlank()) {
+            return PostAnalysis.EMPTY;
+        }
+        try {
+            return objectMapper.readValue(json, PostAnalysis.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read post analysis: {}", e.getMessage());
+            return PostAnalysis.EMPTY;
+        }
+    }
+}
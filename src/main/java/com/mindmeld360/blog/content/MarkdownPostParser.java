@@ -0,0 +1,363 @@
+package com.mindmeld360.blog.content;
+
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.exception.RenderBudgetExceededException;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.PostAnalysis;
+import org.commonmark.Extension;
+import org.commonmark.ext.front.matter.YamlFrontMatterBlock;
+import org.commonmark.ext.front.matter.YamlFrontMatterExtension;
+import org.commonmark.ext.front.matter.YamlFrontMatterNode;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Turns markdown files with YAML front matter into rendered {@link BlogPost}s.
+ * Shared by every {@link ContentSource} that starts from markdown.
+ *
+ * Parsing is bounded by {@code blog.render-budget}: files over the byte limit are skipped,
+ * and posts that exceed the node, depth or render-time limits are skipped or served as
+ * escaped plain text, so one pathological file cannot stall a corpus load.
+ */
+public class MarkdownPostParser {
+
+    private static final Logger log = LoggerFactory.getLogger(MarkdownPostParser.class);
+
+    /**
+     * {@link PostAnalysis} attribute holding the reason a post was degraded to plain text.
+     */
+    public static final String DEGRADED_ATTRIBUTE = "renderBudgetExceeded";
+
+    private static final Pattern FRONT_MATTER = Pattern.compile("\\A---\\R.*?\\R---(\\R|\\z)", Pattern.DOTALL);
+
+    private final BlogProperties blogProperties;
+    private final AnalysisPipeline analysisPipeline;
+    private final List<Extension> extensions;
+    private final Parser parser;
+
+    public MarkdownPostParser(BlogProperties blogProperties, AnalysisPipeline analysisPipeline) {
+        this.blogProperties = blogProperties;
+        this.analysisPipeline = analysisPipeline;
+
+        this.extensions = List.of(
+            YamlFrontMatterExtension.create(),
+            TablesExtension.create()
+        );
+
+        this.parser = Parser.builder()
+            .extensions(extensions)
+            .build();
+    }
+
+    /**
+     * Describes the settings that change what this parser renders for the same markdown, so
+     * corpora rendered with different settings get different {@link ContentManifest} versions.
+     */
+    public String renderSettings() {
+        BlogProperties.RenderBudget budget = blogProperties.getRenderBudget();
+        BlogProperties.Analysis analysis = blogProperties.getAnalysis();
+        return String.join("\n",
+            "max-bytes=" + budget.getMaxBytes().toBytes(),
+            "max-nodes=" + budget.getMaxNodes(),
+            "max-depth=" + budget.getMaxDepth(),
+            "max-render-time=" + budget.getMaxRenderTime(),
+            "on-exceeded=" + budget.getOnExceeded(),
+            "words-per-minute=" + analysis.getWordsPerMinute(),
+            "excerpt-length=" + analysis.getExcerptLength(),
+            "publisher-url=" + blogProperties.getPublisherUrl(),
+            "default-author=" + blogProperties.getDefaultAuthor());
+    }
+
+    /**
+     * Checks a file size against {@code blog.render-budget.max-bytes}. Content sources call this
+     * with the stored size before reading a file, so oversized files are never loaded.
+     *
+     * @return why a file of this size is skipped, or null if it is within the limit
+     */
+    public String checkSize(long bytes) {
+        long maxBytes = blogProperties.getRenderBudget().getMaxBytes().toBytes();
+        return maxBytes > 0 && bytes > maxBytes ? "larger than " + maxBytes + " bytes" : null;
+    }
+
+    /**
+     * Parses markdown with YAML front matter; the slug is the filename without its .md extension.
+     *
+     * @return the post (drafts included), or null if the file is missing required front matter
+     */
+    public BlogPost parse(String filename, String content) {
+        return parse(filename, content, reason -> { });
+    }
+
+    /**
+     * Parses markdown like {@link #parse(String, String)} and reports why a file is skipped.
+     *
+     * @param onSkipped receives the reason (for example "missing title") when null is returned
+     * @return the post (drafts included), or null if the file was skipped
+     */
+    public BlogPost parse(String filename, String content, Consumer<String> onSkipped) {
+        String slug = filename.endsWith(".md")
+            ? filename.substring(0, filename.length() - 3)
+            : filename;
+
+        BlogProperties.RenderBudget budget = blogProperties.getRenderBudget();
+        String oversized = checkSize(utf8Length(content));
+        if (oversized != null) {
+            return skip(filename, oversized, onSkipped);
+        }
+
+        Node document = parser.parse(content);
+
+        // Single traversal: front matter plus all derived data (TOC, reading time, links, excerpt)
+        AnalysisPipeline.Result analysis;
+        String degradedReason = null;
+        try {
+            analysis = analysisPipeline.analyze(document, budget.getMaxNodes(), budget.getMaxDepth());
+        } catch (RenderBudgetExceededException e) {
+            if (budget.getOnExceeded() == BlogProperties.RenderBudget.Action.SKIP) {
+                return skip(filename, e.getMessage(), onSkipped);
+            }
+            degradedReason = e.getMessage();
+            analysis = new AnalysisPipeline.Result(readFrontMatter(document), PostAnalysis.EMPTY, Map.of());
+        }
+        Map<String, List<String>> frontMatter = analysis.frontMatter();
+
+        String title = getFirstValue(frontMatter, "title");
+        if (title == null || title.isBlank()) {
+            return skip(filename, "missing title", onSkipped);
+        }
+
+        String pubDateStr = getFirstValue(frontMatter, "pubDate");
+        LocalDate pubDate;
+        try {
+            pubDate = LocalDate.parse(pubDateStr);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return skip(filename, "invalid or missing pubDate", onSkipped);
+        }
+
+        String description = getFirstValue(frontMatter, "description");
+        if (description == null) {
+            description = "";
+        }
+
+        String author = getFirstValue(frontMatter, "author");
+        if (author == null || author.isBlank()) {
+            author = blogProperties.getDefaultAuthor();
+        }
+
+        List<String> tags = parseTags(frontMatter.getOrDefault("tags", List.of()));
+        boolean draft = "true".equalsIgnoreCase(getFirstValue(frontMatter, "draft"));
+
+        // Parse optional updatedDate
+        String updatedDateStr = getFirstValue(frontMatter, "updatedDate");
+        LocalDate updatedDate = null;
+        if (updatedDateStr != null && !updatedDateStr.isBlank()) {
+            try {
+                updatedDate = LocalDate.parse(updatedDateStr);
+            } catch (DateTimeParseException e) {
+                log.warn("Invalid updatedDate in {}: {}", filename, updatedDateStr);
+            }
+        }
+
+        // Parse optional heroImage
+        String heroImage = getFirstValue(frontMatter, "heroImage");
+
+        String htmlContent = null;
+        PostAnalysis postAnalysis = analysis.analysis();
+        if (degradedReason == null) {
+            try {
+                htmlContent = render(document, analysis.renderAttributes(), budget.getMaxRenderTime());
+            } catch (RenderBudgetExceededException e) {
+                if (budget.getOnExceeded() == BlogProperties.RenderBudget.Action.SKIP) {
+                    return skip(filename, e.getMessage(), onSkipped);
+                }
+                degradedReason = e.getMessage();
+            }
+        }
+        if (degradedReason != null) {
+            log.warn("Degrading post {} to plain text: {}", filename, degradedReason);
+            htmlContent = "<pre class=\"sb-post-degraded\">"
+                + HtmlUtils.htmlEscape(FRONT_MATTER.matcher(content).replaceFirst("")) + "</pre>";
+            postAnalysis = new PostAnalysis.Builder().attribute(DEGRADED_ATTRIBUTE, degradedReason).build();
+        }
+
+        return new BlogPost(slug, title, description, content, htmlContent, pubDate, updatedDate, heroImage, author, tags, draft,
+            postAnalysis);
+    }
+
+    private static BlogPost skip(String filename, String reason, Consumer<String> onSkipped) {
+        log.warn("Skipping post {}: {}", filename, reason);
+        onSkipped.accept(reason);
+        return null;
+    }
+
+    private String render(Node document, Map<Node, Map<String, String>> renderAttributes, Duration maxRenderTime) {
+        HtmlRenderer renderer = createRenderer(renderAttributes);
+        if (maxRenderTime.isZero() || maxRenderTime.isNegative()) {
+            return renderer.render(document);
+        }
+        StringBuilder html = new StringBuilder();
+        renderer.render(document, new DeadlineAppendable(html, System.nanoTime() + maxRenderTime.toNanos(), maxRenderTime));
+        return html.toString();
+    }
+
+    /**
+     * Reads front matter directly from the document, for posts too large to analyze.
+     */
+    private static Map<String, List<String>> readFrontMatter(Node document) {
+        Map<String, List<String>> frontMatter = new LinkedHashMap<>();
+        if (document.getFirstChild() instanceof YamlFrontMatterBlock block) {
+            for (Node node = block.getFirstChild(); node != null; node = node.getNext()) {
+                if (node instanceof YamlFrontMatterNode yaml) {
+                    frontMatter.put(yaml.getKey(), yaml.getValues());
+                }
+            }
+        }
+        return frontMatter;
+    }
+
+    private static long utf8Length(String content) {
+        long length = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Creates a renderer that applies attributes requested by analyzers (e.g. heading ids).
+     * Renderers are cheap to build; a per-post instance avoids sharing node-keyed state across threads.
+     */
+    private HtmlRenderer createRenderer(Map<Node, Map<String, String>> renderAttributes) {
+        HtmlRenderer.Builder builder = HtmlRenderer.builder()
+            .extensions(extensions)
+            .sanitizeUrls(true)
+            .escapeHtml(false); // Trusted author content
+
+        if (!renderAttributes.isEmpty()) {
+            builder.attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                Map<String, String> extra = renderAttributes.get(node);
+                if (extra != null) {
+                    attributes.putAll(extra);
+                }
+            });
+        }
+        return builder.build();
+    }
+
+    private String getFirstValue(Map<String, List<String>> frontMatter, String key) {
+        List<String> values = frontMatter.get(key);
+        return (values != null && !values.isEmpty()) ? values.get(0) : null;
+    }
+
+    /**
+     * Parse tags from frontmatter. Handles both:
+     * - Proper YAML list format (already a List<String>)
+     * - JSON array format on single line: ["tag1", "tag2"]
+     */
+    private List<String> parseTags(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) {
+            return List.of();
+        }
+
+        // If it's already multiple items, it was parsed correctly
+        if (rawTags.size() > 1) {
+            return rawTags;
+        }
+
+        // Single item - might be a JSON array string
+        String first = rawTags.get(0);
+        if (first == null || first.isBlank()) {
+            return List.of();
+        }
+
+        // Check if it looks like a JSON array: ["tag1", "tag2"]
+        first = first.trim();
+        if (first.startsWith("[") && first.endsWith("]")) {
+            // Parse JSON-like array
+            String inner = first.substring(1, first.length() - 1);
+            List<String> tags = new ArrayList<>();
+            for (String part : inner.split(",")) {
+                String tag = part.trim();
+                // Remove quotes
+                if ((tag.startsWith("\"") && tag.endsWith("\"")) ||
+                    (tag.startsWith("'") && tag.endsWith("'"))) {
+                    tag = tag.substring(1, tag.length() - 1);
+                }
+                if (!tag.isBlank()) {
+                    tags.add(tag);
+                }
+            }
+            return tags;
+        }
+
+        // Single tag as-is
+        return List.of(first);
+    }
+
+    /**
+     * Render target that aborts once the render-time budget is used up.
+     */
+    private static final class DeadlineAppendable implements Appendable {
+        private final StringBuilder target;
+        private final long deadline;
+        private final Duration budget;
+        private int appends;
+
+        DeadlineAppendable(StringBuilder target, long deadline, Duration budget) {
+            this.target = target;
+            this.deadline = deadline;
+            this.budget = budget;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            check();
+            target.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            check();
+            target.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            check();
+            target.append(c);
+            return this;
+        }
+
+        private void check() {
+            // nanoTime is cheap but not free; renderers append many small pieces
+            if ((++appends & 0x3F) == 0 && System.nanoTime() - deadline > 0) {
+                throw new RenderBudgetExceededException("rendering took longer than " + budget.toMillis() + " ms");
+            }
+        }
+    }
+}
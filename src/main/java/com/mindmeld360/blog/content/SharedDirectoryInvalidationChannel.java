@@ -0,0 +1,336 @@
+package com.mindmeld360.blog.content;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Invalidation channel over a directory shared by all nodes (NFS, EFS, a mounted volume).
+ *
+ * Layout:
+ * <pre>
+ * snapshots/&lt;version&gt;.json   rendered corpus, written once via atomic rename
+ * locks/&lt;version&gt;.lock       build claim, created exclusively; stale after build-wait
+ * generations/&lt;n&gt;           highest announcement number, claimed exclusively
+ * CURRENT                   "&lt;generation&gt; &lt;version&gt;" of the most recent announcement
+ * </pre>
+ * Nodes poll {@code CURRENT} and notify subscribers when another node announces a new version.
+ * Every announcement claims a generation higher than any claimed before, and announcements not
+ * newer than the last one seen are ignored, so a delayed publisher cannot roll nodes back to a
+ * version they already moved past. Publishing keeps the newest {@code retainedSnapshots}
+ * snapshots and deletes older ones.
+ */
+public class SharedDirectoryInvalidationChannel implements InvalidationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedDirectoryInvalidationChannel.class);
+
+    private static final Pattern VERSION = Pattern.compile("[0-9A-Za-z_-]{1,128}");
+    private static final Pattern ANNOUNCEMENT = Pattern.compile("(?:(\\d{1,18}) )?([0-9A-Za-z_-]{1,128})");
+    private static final String CURRENT = "CURRENT";
+
+    private final Path directory;
+    private final Path snapshots;
+    private final Path locks;
+    private final Path generations;
+    private final ObjectMapper objectMapper;
+    private final Duration pollInterval;
+    private final Duration buildWait;
+    private final int retainedSnapshots;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Announcement lastSeen;
+    private ScheduledExecutorService poller;
+
+    public SharedDirectoryInvalidationChannel(Path directory, ObjectMapper objectMapper,
+                                              Duration pollInterval, Duration buildWait) {
+        this(directory, objectMapper, pollInterval, buildWait, 5);
+    }
+
+    /**
+     * @param retainedSnapshots snapshots kept on disk, newest first, including the one just published
+     */
+    public SharedDirectoryInvalidationChannel(Path directory, ObjectMapper objectMapper,
+                                              Duration pollInterval, Duration buildWait, int retainedSnapshots) {
+        this.directory = directory;
+        this.snapshots = directory.resolve("snapshots");
+        this.locks = directory.resolve("locks");
+        this.generations = directory.resolve("generations");
+        // Snapshots may come from a node running a newer version of the library
+        this.objectMapper = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.pollInterval = pollInterval;
+        this.buildWait = buildWait;
+        this.retainedSnapshots = Math.max(retainedSnapshots, 1);
+        try {
+            Files.createDirectories(snapshots);
+            Files.createDirectories(locks);
+            Files.createDirectories(generations);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot use shared blog directory " + directory, e);
+        }
+        this.lastSeen = readCurrent().orElse(null);
+    }
+
+    @Override
+    public Optional<CorpusSnapshot> load(String version) {
+        Path file = snapshots.resolve(checkVersion(version) + ".json");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            CorpusSnapshot snapshot = objectMapper.readValue(file.toFile(), CorpusSnapshot.class);
+            log.info("Loaded blog corpus {} built by {}", version, snapshot.builtBy());
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable blog snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean tryClaim(String version) {
+        Path lock = locks.resolve(checkVersion(version) + ".lock");
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                Files.writeString(lock, nodeId, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                if (!deleteIfStale(lock)) {
+                    return false;
+                }
+            } catch (IOException e) {
+                log.warn("Cannot claim blog corpus {}; building locally: {}", version, e.getMessage());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<CorpusSnapshot> await(String version) {
+        long deadline = System.nanoTime() + buildWait.toNanos();
+        log.info("Waiting up to {} for another node to build blog corpus {}", buildWait, version);
+        while (System.nanoTime() < deadline) {
+            Optional<CorpusSnapshot> snapshot = load(version);
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval.toMillis(), 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void publish(CorpusSnapshot snapshot) {
+        String version = checkVersion(snapshot.manifest().version());
+        try {
+            writeAtomically(snapshots.resolve(version + ".json"), objectMapper.writeValueAsBytes(snapshot));
+            long generation = claimGeneration();
+            Announcement announcement = new Announcement(generation, version);
+            lastSeen = announcement;
+            writeAtomically(directory.resolve(CURRENT),
+                (generation + " " + version).getBytes(StandardCharsets.UTF_8));
+            Files.deleteIfExists(locks.resolve(version + ".lock"));
+            log.info("Published blog corpus {} ({} posts, generation {})", version, snapshot.posts().size(), generation);
+            pruneSnapshots(version);
+        } catch (IOException e) {
+            log.warn("Failed to publish blog corpus {}: {}", version, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+        if (poller == null && !pollInterval.isZero() && !pollInterval.isNegative()) {
+            poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "devx-blog-invalidation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = pollInterval.toMillis();
+            poller.scheduleWithFixedDelay(this::checkForUpdates, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reads the announced version now and notifies subscribers if it changed since the last check.
+     * Called periodically; exposed for tests and for callers that want an immediate check.
+     */
+    public void checkForUpdates() {
+        try {
+            Optional<Announcement> current = readCurrent();
+            Announcement previous = lastSeen;
+            if (current.isEmpty() || (previous != null && current.get().generation() <= previous.generation())) {
+                return;
+            }
+            lastSeen = current.get();
+            if (previous != null && previous.version().equals(current.get().version())) {
+                return;
+            }
+            log.info("Blog corpus {} announced (generation {})", current.get().version(), current.get().generation());
+            for (Consumer<String> listener : listeners) {
+                listener.accept(current.get().version());
+            }
+        } catch (RuntimeException e) {
+            // Keep polling; a transient failure must not cancel the schedule
+            log.warn("Failed to check for blog corpus updates: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    private Optional<Announcement> readCurrent() {
+        Path current = directory.resolve(CURRENT);
+        try {
+            if (!Files.isRegularFile(current)) {
+                return Optional.empty();
+            }
+            Matcher matcher = ANNOUNCEMENT.matcher(Files.readString(current, StandardCharsets.UTF_8).trim());
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            // A bare version comes from a node without generations and ranks below any generation
+            long generation = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 0;
+            return Optional.of(new Announcement(generation, matcher.group(2)));
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Cannot read {}: {}", current, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long claimGeneration() throws IOException {
+        long generation = Math.max(readCurrent().map(Announcement::generation).orElse(0L), highestGeneration()) + 1;
+        while (true) {
+            try {
+                Files.createFile(generations.resolve(Long.toString(generation)));
+                break;
+            } catch (FileAlreadyExistsException e) {
+                generation++;
+            }
+        }
+        // Only the highest claim matters for numbering; it is never deleted
+        long claimed = generation;
+        try (Stream<Path> files = Files.list(generations)) {
+            for (Path file : files.filter(file -> generationOf(file) < claimed).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        return generation;
+    }
+
+    private long highestGeneration() throws IOException {
+        try (Stream<Path> files = Files.list(generations)) {
+            return files.mapToLong(SharedDirectoryInvalidationChannel::generationOf).max().orElse(0);
+        }
+    }
+
+    private static long generationOf(Path file) {
+        try {
+            return Long.parseLong(file.getFileName().toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void pruneSnapshots(String keep) {
+        List<Path> old;
+        try (Stream<Path> files = Files.list(snapshots)) {
+            old = files
+                .filter(file -> file.getFileName().toString().endsWith(".json"))
+                .filter(file -> !file.getFileName().toString().equals(keep + ".json"))
+                .sorted(Comparator.comparing(SharedDirectoryInvalidationChannel::modifiedTime).reversed())
+                .skip(retainedSnapshots - 1)
+                .toList();
+        } catch (IOException e) {
+            log.debug("Cannot list blog snapshots: {}", e.getMessage());
+            return;
+        }
+        for (Path file : old) {
+            try {
+                Files.deleteIfExists(file);
+                log.info("Removed old blog snapshot {}", file.getFileName());
+            } catch (IOException e) {
+                log.debug("Cannot remove {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static FileTime modifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private boolean deleteIfStale(Path lock) {
+        try {
+            Instant modified = Files.getLastModifiedTime(lock).toInstant();
+            if (modified.plus(buildWait).isBefore(Instant.now())) {
+                log.info("Removing stale blog build claim {}", lock.getFileName());
+                Files.deleteIfExists(lock);
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            // Deleted by its owner in the meantime
+            return true;
+        }
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String checkVersion(String version) {
+        if (version == null || !VERSION.matcher(version).matches()) {
+            throw new IllegalArgumentException("Invalid corpus version: " + version);
+        }
+        return version;
+    }
+
+    private record Announcement(long generation, String version) {
+    }
+}
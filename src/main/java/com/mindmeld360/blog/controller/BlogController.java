@@ -5,8 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mindmeld360.blog.config.BlogProperties;
 import com.mindmeld360.blog.exception.BlogNotFoundException;
 import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.HeroImage;
+import com.mindmeld360.blog.model.PostPage;
 import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.HeroImageService;
+import com.mindmeld360.blog.service.PreloadLinkService;
+import com.mindmeld360.blog.service.StaticAssetService;
 import com.mindmeld360.blog.util.UrlBuilder;
+import com.mindmeld360.blog.web.PostBodyFilter;
+import com.mindmeld360.blog.web.RequestTimings;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -18,8 +25,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,22 +44,46 @@ public class BlogController {
     private final BlogProperties blogProperties;
     private final ObjectMapper objectMapper;
     private final UrlBuilder urlBuilder;
+    private final HeroImageService heroImageService;
+    private final PreloadLinkService preloadLinkService;
+    private final StaticAssetService staticAssetService;
 
     public BlogController(BlogService blogService, BlogProperties blogProperties,
-                          ObjectMapper objectMapper, UrlBuilder urlBuilder) {
+                          ObjectMapper objectMapper, UrlBuilder urlBuilder,
+                          HeroImageService heroImageService, PreloadLinkService preloadLinkService,
+                          StaticAssetService staticAssetService) {
         this.blogService = blogService;
         this.blogProperties = blogProperties;
         this.objectMapper = objectMapper;
         this.urlBuilder = urlBuilder;
+        this.heroImageService = heroImageService;
+        this.preloadLinkService = preloadLinkService;
+        this.staticAssetService = staticAssetService;
     }
 
     @GetMapping
-    public String index(Model model, HttpServletRequest request) {
-        List<BlogPost> posts = blogService.getAllPosts();
+    public String index(@RequestParam(value = "page", defaultValue = "1") int page,
+                        Model model, HttpServletRequest request, HttpServletResponse response) {
+        RequestTimings timings = RequestTimings.of(request);
+        long start = timings.start();
+        preloadLinkService.applyIndexHints(request, response);
+        start = timings.stop("hints", start);
+
+        int pageSize = blogProperties.getPageSize();
+        PostPage postPage = null;
+        List<BlogPost> posts;
+        if (pageSize > 0) {
+            postPage = blogService.getPosts(page, pageSize);
+            posts = postPage.posts();
+        } else {
+            posts = blogService.getAllPosts();
+        }
         log.info("Blog index request: {} posts found", posts.size());
+        start = timings.stop("lookup", start);
 
         String baseUrl = urlBuilder.buildBaseUrl(request);
         String blogUrl = baseUrl + "/blog";
+        String canonicalUrl = postPage != null && postPage.page() > 1 ? blogUrl + "?page=" + postPage.page() : blogUrl;
 
         // Build JSON-LD structured data for blog index
         Map<String, Object> jsonLd = new HashMap<>();
@@ -67,34 +100,59 @@ public class BlogController {
             log.error("Failed to generate JSON-LD for blog index", e);
             model.addAttribute("jsonLd", "{}");
         }
+        start = timings.stop("jsonld", start);
+
+        // Responsive hero renditions keyed by slug; posts without a local raster hero are absent
+        Map<String, HeroImage> heroImages = new HashMap<>();
+        boolean heroCacheHit = true;
+        for (BlogPost post : posts) {
+            if (timings.isEnabled()) {
+                heroCacheHit &= post.heroImage() == null || heroImageService.isResolved(post.heroImage());
+            }
+            heroImageService.resolve(post.heroImage())
+                .ifPresent(heroImage -> heroImages.put(post.slug(), heroImage));
+        }
+        timings.cache("hero-cache", heroCacheHit);
 
         addCommonAttributes(model);
         model.addAttribute("posts", posts);
+        model.addAttribute("postPage", postPage);
+        model.addAttribute("heroImages", heroImages);
         model.addAttribute("pageTitle", blogProperties.getTitle());
         model.addAttribute("metaDescription", blogProperties.getDescription());
-        model.addAttribute("canonicalUrl", blogUrl);
+        model.addAttribute("canonicalUrl", canonicalUrl);
         model.addAttribute("ogTitle", blogProperties.getTitle());
         model.addAttribute("ogDescription", blogProperties.getDescription());
         model.addAttribute("ogType", "website");
+        timings.stop("model", start);
+        timings.startRender();
 
         return "blog/index";
     }
 
     @GetMapping("/{slug}")
     public String post(@PathVariable("slug") String slug, Model model, HttpServletRequest request, HttpServletResponse response) {
+        RequestTimings timings = RequestTimings.of(request);
+        long start = timings.start();
         Optional<BlogPost> postOpt = blogService.getPostBySlug(slug);
+        start = timings.stop("lookup", start);
 
         if (postOpt.isEmpty()) {
             log.warn("Blog post not found: {}", slug);
             response.setStatus(HttpStatus.NOT_FOUND.value());
             addCommonAttributes(model);
             model.addAttribute("slug", slug);
+            timings.startRender();
             return "blog/not-found";
         }
 
         BlogPost post = postOpt.get();
         log.info("Blog post request: {}", slug);
 
+        // Before building the model, so the headers are set before a streamed page commits the response
+        preloadLinkService.applyPostHints(post, request, response);
+        start = timings.stop("hints", start);
+
         String baseUrl = urlBuilder.buildBaseUrl(request);
         String canonicalUrl = baseUrl + "/blog/" + urlBuilder.encodePathSegment(slug);
 
@@ -108,12 +166,20 @@ public class BlogController {
             }
         }
 
+        // Fall back to the first paragraph when the post has no description
+        String description = post.description() != null && !post.description().isBlank()
+            ? post.description()
+            : post.analysis().excerpt();
+
         // Build JSON-LD structured data for blog post
         Map<String, Object> jsonLd = new HashMap<>();
         jsonLd.put("@context", "https://schema.org");
         jsonLd.put("@type", "BlogPosting");
         jsonLd.put("headline", post.title());
-        jsonLd.put("description", post.description() != null ? post.description() : "");
+        jsonLd.put("description", description);
+        if (post.analysis().wordCount() > 0) {
+            jsonLd.put("wordCount", post.analysis().wordCount());
+        }
 
         Map<String, Object> author = new HashMap<>();
         author.put("@type", "Person");
@@ -139,18 +205,45 @@ public class BlogController {
             log.error("Failed to generate JSON-LD for blog post", e);
             model.addAttribute("jsonLd", "{}");
         }
+        start = timings.stop("jsonld", start);
+
+        // Off-heap bodies are spliced into the page by PostBodyFilter instead of going through Thymeleaf
+        Optional<ByteBuffer> encodedBody = blogService.getEncodedBody(slug);
+        encodedBody.ifPresent(body -> request.setAttribute(PostBodyFilter.BODY_ATTRIBUTE, body));
+        BlogProperties.Streaming streaming = blogProperties.getStreaming();
+        long minBodySize = streaming.getMinBodySize().toBytes();
+        if (streaming.isEnabled() && (encodedBody.isPresent()
+                ? encodedBody.get().remaining() >= minBodySize
+                : hasUtf8Length(post.htmlContent(), minBodySize))) {
+            // Large bodies are spliced too, so the head and post header can be flushed ahead of them
+            if (encodedBody.isEmpty()) {
+                request.setAttribute(PostBodyFilter.BODY_ATTRIBUTE, post.htmlContent());
+            }
+            request.setAttribute(PostBodyFilter.STREAM_ATTRIBUTE, streamChunkSize(streaming));
+        }
+        if (request.getAttribute(PostBodyFilter.BODY_ATTRIBUTE) != null) {
+            model.addAttribute("postBodyMarker", PostBodyFilter.createMarker(request));
+        }
 
         addCommonAttributes(model);
         model.addAttribute("post", post);
         model.addAttribute("pageTitle", post.title() + " — " + blogProperties.getTitle());
-        model.addAttribute("metaDescription", post.description());
+        model.addAttribute("metaDescription", description);
         model.addAttribute("canonicalUrl", canonicalUrl);
         model.addAttribute("ogTitle", post.title());
-        model.addAttribute("ogDescription", post.description());
+        model.addAttribute("ogDescription", description);
         model.addAttribute("ogType", "article");
         model.addAttribute("ogImage", ogImage);
+        if (timings.isEnabled() && post.heroImage() != null) {
+            timings.cache("hero-cache", heroImageService.isResolved(post.heroImage()));
+        }
+        model.addAttribute("heroImage", heroImageService.resolve(post.heroImage()).orElse(null));
+        int tocMinHeadings = blogProperties.getAnalysis().getTocMinHeadings();
+        model.addAttribute("showToc", tocMinHeadings > 0 && post.analysis().toc().size() >= tocMinHeadings);
         model.addAttribute("articlePublishedTime", post.pubDate().toString());
         model.addAttribute("articleAuthor", post.author());
+        timings.stop("model", start);
+        timings.startRender();
 
         return "blog/post";
     }
@@ -171,6 +264,37 @@ public class BlogController {
         return publisher;
     }
 
+    /**
+     * Whether {@code html} encodes to at least {@code minBytes} of UTF-8, the unit off-heap bodies are
+     * measured in. Stops counting once the threshold is reached.
+     */
+    private static boolean hasUtf8Length(String html, long minBytes) {
+        if (html == null) {
+            return minBytes <= 0;
+        }
+        long length = 0;
+        for (int i = 0; i < html.length() && length < minBytes; i++) {
+            char c = html.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length >= minBytes;
+    }
+
+    private static int streamChunkSize(BlogProperties.Streaming streaming) {
+        // Tiny chunks turn into one TCP segment each; huge ones defeat the purpose
+        long bytes = streaming.getChunkSize().toBytes();
+        return (int) Math.max(1024, Math.min(bytes, 1024 * 1024));
+    }
+
     private void addCommonAttributes(Model model) {
         model.addAttribute("blogTitle", blogProperties.getTitle());
         model.addAttribute("blogDescription", blogProperties.getDescription());
@@ -180,5 +304,9 @@ public class BlogController {
         model.addAttribute("disqusShortname", blogProperties.getDisqus().getShortname());
         model.addAttribute("socialSharingEnabled", blogProperties.getSocialSharing().isEnabled());
         model.addAttribute("mediumUrl", blogProperties.getMediumUrl());
+        model.addAttribute("heroCardSizes", blogProperties.getHeroImages().getCardSizes());
+        model.addAttribute("heroPostSizes", blogProperties.getHeroImages().getPostSizes());
+        model.addAttribute("blogStylesheetUrl", staticAssetService.resolveUrl(StaticAssetService.STYLESHEET));
+        model.addAttribute("blogCriticalCss", staticAssetService.getCriticalCss());
     }
 }
@@ -0,0 +1,37 @@
+package com.mindmeld360.blog.controller;
+
+import com.mindmeld360.blog.service.HeroImageService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class HeroImageController {
+
+    private final HeroImageService heroImageService;
+
+    public HeroImageController(HeroImageService heroImageService) {
+        this.heroImageService = heroImageService;
+    }
+
+    /**
+     * Serves generated hero image derivatives. File names are content-addressed,
+     * so responses can be cached indefinitely.
+     */
+    @GetMapping("/blog/img/{fileName:.+}")
+    public ResponseEntity<Resource> heroImage(@PathVariable("fileName") String fileName) {
+        return heroImageService.getDerivative(fileName)
+            .<ResponseEntity<Resource>>map(path -> ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .contentType(fileName.endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG)
+                .body(new FileSystemResource(path)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,71 +1,114 @@
 package com.mindmeld360.blog.controller;
 
-import com.mindmeld360.blog.config.BlogProperties;
-import com.mindmeld360.blog.model.BlogPost;
-import com.mindmeld360.blog.service.BlogService;
-import com.rometools.rome.feed.rss.Channel;
-import com.rometools.rome.feed.rss.Description;
-import com.rometools.rome.feed.rss.Item;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.web.RequestTimings;
 import com.rometools.rome.io.FeedException;
-import com.rometools.rome.io.WireFeedOutput;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.ZoneOffset;
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 public class RssFeedController {
 
-    private final BlogService blogService;
-    private final BlogProperties blogProperties;
+    private final FeedService feedService;
 
-    public RssFeedController(BlogService blogService, BlogProperties blogProperties) {
-        this.blogService = blogService;
-        this.blogProperties = blogProperties;
+    public RssFeedController(FeedService feedService) {
+        this.feedService = feedService;
     }
 
+    /**
+     * Serves the RSS feed with an entity tag. Supports {@code If-None-Match} (304) and
+     * RFC 3229 delta encoding: with {@code A-IM: feed} and the tag of an earlier fetch,
+     * the response is {@code 226 IM Used} carrying only the new items.
+     */
     @GetMapping(value = "/blog/rss.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String rssFeed() throws FeedException {
-        Channel channel = new Channel();
-        channel.setFeedType("rss_2.0");
-        channel.setTitle(blogProperties.getTitle());
-        channel.setDescription(blogProperties.getDescription());
-        channel.setLink(blogProperties.getPublisherUrl() + "/blog");
-        channel.setEncoding("UTF-8");
-        channel.setLanguage("en");
+    public ResponseEntity<String> rssFeed(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = "A-IM", required = false) String acceptIm,
+                                          HttpServletRequest request)
+            throws FeedException {
+        RequestTimings timings = RequestTimings.of(request);
+        long start = timings.start();
+        FeedService.Feed cached = timings.isEnabled() ? feedService.getCachedFeed() : null;
+        FeedService.Feed feed = feedService.getFeed();
+        start = timings.stop("feed", start);
+        timings.cache("feed-cache", cached != null && feed == cached);
+        List<String> clientTags = parseEntityTags(ifNoneMatch);
 
-        List<BlogPost> posts = blogService.getAllPosts();
-        int maxItems = blogProperties.getRss().getMaxItems();
+        if (clientTags.contains(feed.etag()) || clientTags.contains("*")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(quote(feed.etag()))
+                .varyBy("A-IM")
+                .build();
+        }
 
-        List<Item> items = posts.stream()
-            .limit(maxItems)
-            .map(this::createRssItem)
-            .toList();
+        if (acceptsFeedDelta(acceptIm)) {
+            Optional<FeedService.Feed> delta = Optional.empty();
+            for (String clientTag : clientTags) {
+                delta = feedService.getDelta(clientTag);
+                if (delta.isPresent()) {
+                    break;
+                }
+            }
+            timings.stop("delta", start);
+            if (delta.isPresent()) {
+                return ResponseEntity.status(HttpStatus.IM_USED)
+                    .header("IM", "feed")
+                    .eTag(quote(delta.get().etag()))
+                    .varyBy("A-IM")
+                    .body(delta.get().xml());
+            }
+        }
 
-        channel.setItems(items);
-
-        WireFeedOutput output = new WireFeedOutput();
-        return output.outputString(channel);
+        return ResponseEntity.ok()
+            .eTag(quote(feed.etag()))
+            .varyBy("A-IM")
+            .body(feed.xml());
     }
 
-    private Item createRssItem(BlogPost post) {
-        Item item = new Item();
-        item.setTitle(post.title());
-        item.setLink(blogProperties.getPublisherUrl() + post.getUrl());
-        item.setAuthor(post.author());
-
-        // Convert LocalDate to Date with UTC timezone (RFC 822)
-        Date pubDate = Date.from(post.pubDate().atStartOfDay(ZoneOffset.UTC).toInstant());
-        item.setPubDate(pubDate);
+    private static boolean acceptsFeedDelta(String acceptIm) {
+        if (acceptIm == null) {
+            return false;
+        }
+        for (String manipulation : acceptIm.split(",")) {
+            // Instance-manipulations may carry parameters, e.g. "feed;q=1.0"
+            String name = manipulation.split(";", 2)[0].trim();
+            if (name.equalsIgnoreCase("feed")) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        Description description = new Description();
-        description.setType("text/plain");
-        description.setValue(post.description());
-        item.setDescription(description);
+    private static List<String> parseEntityTags(String header) {
+        List<String> tags = new ArrayList<>();
+        if (header == null) {
+            return tags;
+        }
+        for (String part : header.split(",")) {
+            String tag = part.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
 
-        return item;
+    private static String quote(String etag) {
+        return "\"" + etag + "\"";
     }
 }
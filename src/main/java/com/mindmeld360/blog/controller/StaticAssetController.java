@@ -0,0 +1,34 @@
+package com.mindmeld360.blog.controller;
+
+import com.mindmeld360.blog.service.StaticAssetService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class StaticAssetController {
+
+    private final StaticAssetService staticAssetService;
+
+    public StaticAssetController(StaticAssetService staticAssetService) {
+        this.staticAssetService = staticAssetService;
+    }
+
+    /**
+     * Serves fingerprinted library assets. The file name changes with the content,
+     * so responses can be cached indefinitely.
+     */
+    @GetMapping("/blog/assets/{fileName:.+}")
+    public ResponseEntity<byte[]> asset(@PathVariable("fileName") String fileName) {
+        return staticAssetService.find(fileName)
+            .map(asset -> ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .contentType(asset.mediaType())
+                .body(asset.content()))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
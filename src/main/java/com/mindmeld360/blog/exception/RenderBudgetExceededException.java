@@ -0,0 +1,11 @@
+package com.mindmeld360.blog.exception;
+
+/**
+ * Thrown while parsing or rendering a post that exceeds a {@code blog.render-budget} limit.
+ */
+public class RenderBudgetExceededException extends RuntimeException {
+
+    public RenderBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -14,7 +14,8 @@ public record BlogPost(
     String heroImage,
     String author,
     List<String> tags,
-    boolean draft
+    boolean draft,
+    PostAnalysis analysis
 ) {
     public BlogPost {
         if (slug == null || slug.isBlank()) {
@@ -27,6 +28,25 @@ public record BlogPost(
             throw new IllegalArgumentException("pubDate cannot be null");
         }
         tags = tags != null ? List.copyOf(tags) : List.of();
+        analysis = analysis != null ? analysis : PostAnalysis.EMPTY;
+    }
+
+    /**
+     * Creates a post without derived analysis data.
+     */
+    public BlogPost(String slug, String title, String description, String content, String htmlContent,
+                    LocalDate pubDate, LocalDate updatedDate, String heroImage, String author,
+                    List<String> tags, boolean draft) {
+        this(slug, title, description, content, htmlContent, pubDate, updatedDate, heroImage, author,
+            tags, draft, PostAnalysis.EMPTY);
+    }
+
+    /**
+     * Returns a copy of this post with a different markdown source and rendered body.
+     */
+    public BlogPost withContent(String content, String htmlContent) {
+        return new BlogPost(slug, title, description, content, htmlContent, pubDate, updatedDate, heroImage,
+            author, tags, draft, analysis);
     }
 
     public String getUrl() {
@@ -0,0 +1,48 @@
+package com.mindmeld360.blog.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * What happened during the last corpus load.
+ *
+ * @param loadedAt      when the load finished
+ * @param loadTime      wall time of the load, including reading files
+ * @param origin        {@code rendered} when this node parsed the markdown, {@code snapshot} when it loaded
+ *                      a corpus published by another node
+ * @param files         markdown files found
+ * @param htmlBytes     UTF-8 size of all rendered bodies
+ * @param posts         per-post statistics for published posts, in listing order
+ * @param failures      files that were skipped or could not be read
+ */
+public record CorpusLoadReport(
+    Instant loadedAt,
+    Duration loadTime,
+    String origin,
+    int files,
+    long htmlBytes,
+    List<PostStats> posts,
+    List<Failure> failures
+) {
+    public CorpusLoadReport {
+        posts = posts != null ? List.copyOf(posts) : List.of();
+        failures = failures != null ? List.copyOf(failures) : List.of();
+    }
+
+    /**
+     * @param slug       post slug
+     * @param renderTime time spent parsing, analyzing and rendering; null when loaded from a snapshot
+     * @param htmlBytes  UTF-8 size of the rendered body
+     * @param degraded   render budget violation that degraded the post to plain text, or null
+     */
+    public record PostStats(String slug, Duration renderTime, long htmlBytes, String degraded) {
+    }
+
+    /**
+     * @param file   markdown file name
+     * @param reason why the file is not published
+     */
+    public record Failure(String file, String reason) {
+    }
+}
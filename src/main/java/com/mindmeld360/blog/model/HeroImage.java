@@ -0,0 +1,17 @@
+package com.mindmeld360.blog.model;
+
+/**
+ * Responsive rendition of a post hero image.
+ *
+ * @param src    URL of the largest generated derivative (fallback for browsers without srcset)
+ * @param srcset comma-separated {@code url widthw} candidates, smallest first, ending with the original image
+ * @param width  intrinsic width of {@code src} in pixels
+ * @param height intrinsic height of {@code src} in pixels
+ */
+public record HeroImage(
+    String src,
+    String srcset,
+    int width,
+    int height
+) {
+}
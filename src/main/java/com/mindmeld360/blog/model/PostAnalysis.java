@@ -0,0 +1,95 @@
+package com.mindmeld360.blog.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data derived from a post's markdown while it is parsed, so templates and
+ * controllers never have to walk the content again.
+ */
+public record PostAnalysis(
+    List<TocEntry> toc,
+    int wordCount,
+    int readingTimeMinutes,
+    List<String> outboundLinks,
+    List<String> internalLinks,
+    List<String> images,
+    String excerpt,
+    Map<String, Object> attributes
+) {
+    public static final PostAnalysis EMPTY = new Builder().build();
+
+    public PostAnalysis {
+        toc = toc != null ? List.copyOf(toc) : List.of();
+        outboundLinks = outboundLinks != null ? List.copyOf(outboundLinks) : List.of();
+        internalLinks = internalLinks != null ? List.copyOf(internalLinks) : List.of();
+        images = images != null ? List.copyOf(images) : List.of();
+        excerpt = excerpt != null ? excerpt : "";
+        attributes = attributes != null ? Map.copyOf(attributes) : Map.of();
+    }
+
+    /**
+     * Returns a value contributed by a custom analyzer, or null if absent.
+     */
+    public Object getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    public static class Builder {
+        private final List<TocEntry> toc = new ArrayList<>();
+        private int wordCount;
+        private int readingTimeMinutes;
+        private final List<String> outboundLinks = new ArrayList<>();
+        private final List<String> internalLinks = new ArrayList<>();
+        private final List<String> images = new ArrayList<>();
+        private String excerpt = "";
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        public Builder tocEntry(TocEntry entry) {
+            toc.add(entry);
+            return this;
+        }
+
+        public Builder wordCount(int wordCount) {
+            this.wordCount = wordCount;
+            return this;
+        }
+
+        public Builder readingTimeMinutes(int readingTimeMinutes) {
+            this.readingTimeMinutes = readingTimeMinutes;
+            return this;
+        }
+
+        public Builder outboundLink(String url) {
+            outboundLinks.add(url);
+            return this;
+        }
+
+        public Builder internalLink(String url) {
+            internalLinks.add(url);
+            return this;
+        }
+
+        public Builder image(String url) {
+            images.add(url);
+            return this;
+        }
+
+        public Builder excerpt(String excerpt) {
+            this.excerpt = excerpt;
+            return this;
+        }
+
+        public Builder attribute(String key, Object value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        public PostAnalysis build() {
+            return new PostAnalysis(toc, wordCount, readingTimeMinutes, outboundLinks, internalLinks,
+                images, excerpt, attributes);
+        }
+    }
+}
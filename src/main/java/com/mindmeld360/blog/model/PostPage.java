@@ -0,0 +1,34 @@
+package com.mindmeld360.blog.model;
+
+import java.util.List;
+
+/**
+ * One page of the post listing.
+ *
+ * @param posts      posts on this page, newest first
+ * @param page       1-based page number
+ * @param size       requested page size
+ * @param totalPosts number of published posts across all pages
+ */
+public record PostPage(
+    List<BlogPost> posts,
+    int page,
+    int size,
+    int totalPosts
+) {
+    public PostPage {
+        posts = posts != null ? List.copyOf(posts) : List.of();
+    }
+
+    public int getTotalPages() {
+        return size <= 0 ? 1 : Math.max(1, (totalPosts + size - 1) / size);
+    }
+
+    public boolean hasPrevious() {
+        return page > 1;
+    }
+
+    public boolean hasNext() {
+        return page < getTotalPages();
+    }
+}
@@ -0,0 +1,15 @@
+package com.mindmeld360.blog.model;
+
+/**
+ * A heading in a post's table of contents.
+ *
+ * @param level  heading level (1-6)
+ * @param text   plain heading text
+ * @param anchor id attribute rendered on the heading, unique within the post
+ */
+public record TocEntry(
+    int level,
+    String text,
+    String anchor
+) {
+}
@@ -0,0 +1,30 @@
+package com.mindmeld360.blog.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Timings of the startup warm-up.
+ *
+ * @param completedAt when warm-up finished
+ * @param total       wall time of the whole warm-up
+ * @param steps       each warmed target in execution order
+ */
+public record WarmupReport(
+    Instant completedAt,
+    Duration total,
+    List<Step> steps
+) {
+    public WarmupReport {
+        steps = steps != null ? List.copyOf(steps) : List.of();
+    }
+
+    /**
+     * @param target   what was warmed: {@code corpus}, a request path, or a controller name
+     * @param status   HTTP status for requests, 200 for in-process steps, 0 on failure
+     * @param duration time the step took
+     */
+    public record Step(String target, int status, Duration duration) {
+    }
+}
@@ -1,90 +1,59 @@
 package com.mindmeld360.blog.service;
 
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
 import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.ContentManifest;
+import com.mindmeld360.blog.content.ContentSource;
+import com.mindmeld360.blog.content.MarkdownPostParser;
 import com.mindmeld360.blog.exception.BlogNotFoundException;
 import com.mindmeld360.blog.model.BlogPost;
-import org.commonmark.Extension;
-import org.commonmark.ext.front.matter.YamlFrontMatterExtension;
-import org.commonmark.ext.front.matter.YamlFrontMatterVisitor;
-import org.commonmark.ext.gfm.tables.TablesExtension;
-import org.commonmark.node.Node;
-import org.commonmark.parser.Parser;
-import org.commonmark.renderer.html.HtmlRenderer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.Resource;
+import com.mindmeld360.blog.model.CorpusLoadReport;
+import com.mindmeld360.blog.model.PostPage;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 
 public class BlogService {
 
-    private static final Logger log = LoggerFactory.getLogger(BlogService.class);
-
-    private final BlogProperties blogProperties;
-    private final ResourcePatternResolver resourceResolver;
-    private final Parser parser;
-    private final HtmlRenderer htmlRenderer;
+    private final ContentSource contentSource;
 
     public BlogService(BlogProperties blogProperties, ResourcePatternResolver resourceResolver) {
-        this.blogProperties = blogProperties;
-        this.resourceResolver = resourceResolver;
-
-        List<Extension> extensions = List.of(
-            YamlFrontMatterExtension.create(),
-            TablesExtension.create()
-        );
-
-        this.parser = Parser.builder()
-            .extensions(extensions)
-            .build();
-
-        this.htmlRenderer = HtmlRenderer.builder()
-            .extensions(extensions)
-            .sanitizeUrls(true)
-            .escapeHtml(false) // Trusted author content
-            .build();
+        this(new ClasspathContentSource(blogProperties, resourceResolver,
+            new MarkdownPostParser(blogProperties, AnalysisPipeline.defaults(blogProperties))));
+    }
+
+    public BlogService(ContentSource contentSource) {
+        this.contentSource = contentSource;
     }
 
     public List<BlogPost> getAllPosts() {
-        log.info("Loading blog posts from classpath: {}", blogProperties.getContentPath());
-
-        String pattern = "classpath*:" + blogProperties.getContentPath() + "/*.md";
-        List<BlogPost> posts = new ArrayList<>();
-
-        try {
-            Resource[] resources = resourceResolver.getResources(pattern);
-            log.info("Found {} markdown files", resources.length);
-
-            for (Resource resource : resources) {
-                try {
-                    BlogPost post = parsePost(resource);
-                    if (post != null && !post.draft()) {
-                        posts.add(post);
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to parse blog post from {}: {}", resource.getFilename(), e.getMessage());
-                }
-            }
-        } catch (IOException e) {
-            log.error("Failed to load blog posts: {}", e.getMessage());
-        }
-
-        posts.sort(Comparator.comparing(BlogPost::pubDate).reversed()
-            .thenComparing(BlogPost::slug));
-
-        log.info("Loaded {} published blog posts", posts.size());
-        return posts;
+        return contentSource.findAll();
+    }
+
+    /**
+     * Returns the newest published posts, without loading the rest of the archive.
+     */
+    public List<BlogPost> getRecentPosts(int limit) {
+        return contentSource.findPosts(0, limit);
+    }
+
+    /**
+     * Returns a 1-based page of published posts, newest first.
+     */
+    public PostPage getPosts(int page, int size) {
+        int safePage = Math.max(page, 1);
+        int total = contentSource.countPosts();
+        List<BlogPost> posts = contentSource.findPosts((safePage - 1) * size, size);
+        return new PostPage(posts, safePage, size, total);
     }
 
     public Optional<BlogPost> getPostBySlug(String slug) {
-        return getAllPosts().stream()
-            .filter(post -> post.slug().equals(slug))
-            .findFirst();
+        return contentSource.findBySlug(slug);
     }
 
     public BlogPost getPostBySlugOrThrow(String slug) {
@@ -92,121 +61,57 @@ public class BlogService {
             .orElseThrow(() -> new BlogNotFoundException(slug));
     }
 
-    private BlogPost parsePost(Resource resource) throws IOException {
-        String filename = resource.getFilename();
-        if (filename == null) {
-            return null;
-        }
-
-        String slug = filename.endsWith(".md")
-            ? filename.substring(0, filename.length() - 3)
-            : filename;
-
-        String content;
-        try (var inputStream = resource.getInputStream()) {
-            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        }
-
-        Node document = parser.parse(content);
-
-        YamlFrontMatterVisitor visitor = new YamlFrontMatterVisitor();
-        document.accept(visitor);
-        Map<String, List<String>> frontMatter = visitor.getData();
-
-        String title = getFirstValue(frontMatter, "title");
-        if (title == null || title.isBlank()) {
-            log.warn("Skipping post {}: missing title", filename);
-            return null;
-        }
-
-        String pubDateStr = getFirstValue(frontMatter, "pubDate");
-        LocalDate pubDate;
-        try {
-            pubDate = LocalDate.parse(pubDateStr);
-        } catch (DateTimeParseException | NullPointerException e) {
-            log.warn("Skipping post {}: invalid or missing pubDate", filename);
-            return null;
-        }
-
-        String description = getFirstValue(frontMatter, "description");
-        if (description == null) {
-            description = "";
-        }
-
-        String author = getFirstValue(frontMatter, "author");
-        if (author == null || author.isBlank()) {
-            author = blogProperties.getDefaultAuthor();
-        }
-
-        List<String> tags = parseTags(frontMatter.getOrDefault("tags", List.of()));
-        boolean draft = "true".equalsIgnoreCase(getFirstValue(frontMatter, "draft"));
-
-        // Parse optional updatedDate
-        String updatedDateStr = getFirstValue(frontMatter, "updatedDate");
-        LocalDate updatedDate = null;
-        if (updatedDateStr != null && !updatedDateStr.isBlank()) {
-            try {
-                updatedDate = LocalDate.parse(updatedDateStr);
-            } catch (DateTimeParseException e) {
-                log.warn("Invalid updatedDate in {}: {}", filename, updatedDateStr);
-            }
-        }
-
-        // Parse optional heroImage
-        String heroImage = getFirstValue(frontMatter, "heroImage");
-
-        String htmlContent = htmlRenderer.render(document);
-
-        return new BlogPost(slug, title, description, content, htmlContent, pubDate, updatedDate, heroImage, author, tags, draft);
+    /**
+     * Returns the post body as pre-encoded UTF-8 when it is stored off-heap
+     * ({@code blog.body-storage.mode} DIRECT or MAPPED); empty when the body is in {@link BlogPost#htmlContent()}.
+     */
+    public Optional<ByteBuffer> getEncodedBody(String slug) {
+        return contentSource.findEncodedBody(slug);
     }
 
-    private String getFirstValue(Map<String, List<String>> frontMatter, String key) {
-        List<String> values = frontMatter.get(key);
-        return (values != null && !values.isEmpty()) ? values.get(0) : null;
+    /**
+     * Returns the rendered body as a String regardless of where it is stored.
+     */
+    public String getHtmlContent(BlogPost post) {
+        return getEncodedBody(post.slug())
+            .map(body -> StandardCharsets.UTF_8.decode(body).toString())
+            .orElse(post.htmlContent());
+    }
+
+    /**
+     * Returns the version hash of the corpus being served, when the content source tracks one.
+     */
+    public Optional<String> getCorpusVersion() {
+        return contentSource.getManifest().map(ContentManifest::version);
+    }
+
+    /**
+     * Returns statistics about the last corpus load, when the content source keeps them.
+     */
+    public Optional<CorpusLoadReport> getLoadReport() {
+        return contentSource.getLoadReport();
+    }
+
+    /**
+     * Registers a callback run with the version and posts of each corpus before it is served.
+     *
+     * @see ContentSource#addLoadListener
+     */
+    public void addLoadListener(BiConsumer<String, List<BlogPost>> listener) {
+        contentSource.addLoadListener(listener);
+    }
+
+    /**
+     * Returns the type of the content source, for diagnostics.
+     */
+    public String getContentSourceType() {
+        return contentSource.getClass().getSimpleName();
     }
 
     /**
-     * Parse tags from frontmatter. Handles both:
-     * - Proper YAML list format (already a List<String>)
-     * - JSON array format on single line: ["tag1", "tag2"]
+     * Drops cached content so the next request reads from the content source again.
      */
-    private List<String> parseTags(List<String> rawTags) {
-        if (rawTags == null || rawTags.isEmpty()) {
-            return List.of();
-        }
-
-        // If it's already multiple items, it was parsed correctly
-        if (rawTags.size() > 1) {
-            return rawTags;
-        }
-
-        // Single item - might be a JSON array string
-        String first = rawTags.get(0);
-        if (first == null || first.isBlank()) {
-            return List.of();
-        }
-
-        // Check if it looks like a JSON array: ["tag1", "tag2"]
-        first = first.trim();
-        if (first.startsWith("[") && first.endsWith("]")) {
-            // Parse JSON-like array
-            String inner = first.substring(1, first.length() - 1);
-            List<String> tags = new ArrayList<>();
-            for (String part : inner.split(",")) {
-                String tag = part.trim();
-                // Remove quotes
-                if ((tag.startsWith("\"") && tag.endsWith("\"")) ||
-                    (tag.startsWith("'") && tag.endsWith("'"))) {
-                    tag = tag.substring(1, tag.length() - 1);
-                }
-                if (!tag.isBlank()) {
-                    tags.add(tag);
-                }
-            }
-            return tags;
-        }
-
-        // Single tag as-is
-        return List.of(first);
+    public void reload() {
+        contentSource.reload();
     }
 }
@@ -0,0 +1,192 @@
+package com.mindmeld360.blog.service;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.BlogPost;
+import com.rometools.rome.feed.rss.Channel;
+import com.rometools.rome.feed.rss.Description;
+import com.rometools.rome.feed.rss.Item;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.WireFeedOutput;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Builds the RSS feed and its RFC 3229 ({@code A-IM: feed}) deltas.
+ *
+ * The entity tag names the newest item and hashes the whole item window, e.g.
+ * {@code "dGVzdC1wb3N0.3f2a9c..."}. A client presenting an older tag gets only the items
+ * published before its newest one, provided the rest of its window is unchanged; otherwise
+ * (edited items, tag from another deployment) it gets the full feed. Both rely on the
+ * newest-first ordering of {@link BlogService#getRecentPosts(int)}.
+ */
+public class FeedService {
+
+    private final BlogService blogService;
+    private final BlogProperties blogProperties;
+
+    private volatile Feed cachedFeed;
+
+    public FeedService(BlogService blogService, BlogProperties blogProperties) {
+        this.blogService = blogService;
+        this.blogProperties = blogProperties;
+    }
+
+    /**
+     * Returns the full feed; the XML is reused while the entity tag stays the same.
+     */
+    public Feed getFeed() throws FeedException {
+        List<BlogPost> posts = blogService.getRecentPosts(maxItems());
+        String etag = etagOf(posts);
+        Feed cached = cachedFeed;
+        if (cached != null && cached.etag().equals(etag)) {
+            return cached;
+        }
+        Feed feed = new Feed(etag, render(posts), posts.size());
+        cachedFeed = feed;
+        return feed;
+    }
+
+    /**
+     * Returns the feed currently cached, or null; {@link #getFeed()} reuses it while its entity tag is current.
+     */
+    public Feed getCachedFeed() {
+        return cachedFeed;
+    }
+
+    /**
+     * Forgets the cached feed XML so the next request renders it again.
+     */
+    public void evict() {
+        cachedFeed = null;
+    }
+
+    /**
+     * Returns only the items newer than the state identified by {@code clientEtag}.
+     *
+     * @return the delta (possibly without items), or empty if the client state cannot be reconstructed
+     */
+    public Optional<Feed> getDelta(String clientEtag) throws FeedException {
+        int separator = clientEtag != null ? clientEtag.lastIndexOf('.') : -1;
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String newestSlug;
+        try {
+            newestSlug = new String(Base64.getUrlDecoder().decode(clientEtag.substring(0, separator)),
+                StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String clientHash = clientEtag.substring(separator + 1);
+
+        // The client's window starts at most maxItems posts down; beyond that it missed items
+        int maxItems = maxItems();
+        List<BlogPost> posts = blogService.getRecentPosts(maxItems * 2);
+        int index = -1;
+        for (int i = 0; i < Math.min(posts.size(), maxItems + 1); i++) {
+            if (posts.get(i).slug().equals(newestSlug)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        List<BlogPost> clientWindow = posts.subList(index, Math.min(posts.size(), index + maxItems));
+        if (!hashOf(clientWindow).equals(clientHash)) {
+            return Optional.empty();
+        }
+
+        List<BlogPost> current = posts.subList(0, Math.min(posts.size(), maxItems));
+        List<BlogPost> newer = posts.subList(0, Math.min(index, current.size()));
+        return Optional.of(new Feed(etagOf(current), render(newer), newer.size()));
+    }
+
+    private String render(List<BlogPost> posts) throws FeedException {
+        Channel channel = new Channel();
+        channel.setFeedType("rss_2.0");
+        channel.setTitle(blogProperties.getTitle());
+        channel.setDescription(blogProperties.getDescription());
+        channel.setLink(blogProperties.getPublisherUrl() + "/blog");
+        channel.setEncoding("UTF-8");
+        channel.setLanguage("en");
+        channel.setItems(posts.stream().map(this::createRssItem).toList());
+
+        WireFeedOutput output = new WireFeedOutput();
+        return output.outputString(channel);
+    }
+
+    private Item createRssItem(BlogPost post) {
+        Item item = new Item();
+        item.setTitle(post.title());
+        item.setLink(blogProperties.getPublisherUrl() + post.getUrl());
+        item.setAuthor(post.author());
+
+        // Convert LocalDate to Date with UTC timezone (RFC 822)
+        Date pubDate = Date.from(post.pubDate().atStartOfDay(ZoneOffset.UTC).toInstant());
+        item.setPubDate(pubDate);
+
+        Description description = new Description();
+        description.setType("text/plain");
+        description.setValue(post.description());
+        item.setDescription(description);
+
+        return item;
+    }
+
+    private String etagOf(List<BlogPost> posts) {
+        String newest = posts.isEmpty() ? "" : posts.get(0).slug();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(newest.getBytes(StandardCharsets.UTF_8))
+            + "." + hashOf(posts);
+    }
+
+    private String hashOf(List<BlogPost> posts) {
+        MessageDigest digest = sha256();
+        update(digest, blogProperties.getTitle());
+        update(digest, blogProperties.getDescription());
+        update(digest, blogProperties.getPublisherUrl());
+        for (BlogPost post : posts) {
+            update(digest, post.slug());
+            update(digest, post.title());
+            update(digest, post.description());
+            update(digest, post.author());
+            update(digest, Objects.toString(post.pubDate()));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 12);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(Objects.toString(value, "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private int maxItems() {
+        return blogProperties.getRss().getMaxItems();
+    }
+
+    /**
+     * @param etag      entity tag (unquoted) of the feed state after applying this response
+     * @param xml       RSS document
+     * @param itemCount number of items in the document
+     */
+    public record Feed(String etag, String xml, int itemCount) {
+    }
+}
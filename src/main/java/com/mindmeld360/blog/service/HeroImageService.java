@@ -0,0 +1,286 @@
+package com.mindmeld360.blog.service;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.HeroImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Generates resized derivatives of local hero images and keeps them in a disk cache.
+ *
+ * Derivatives are keyed by a hash of the source bytes and the target width, so they are
+ * generated once per image version and shared across restarts when the cache directory
+ * is persistent. Remote (http/https) and non-raster images are left untouched.
+ *
+ * Derivatives are not generated in GraalVM native images: the library ships no reachability
+ * metadata for AWT and ImageIO, so hero images are served as written in the front matter.
+ */
+public class HeroImageService {
+
+    private static final Logger log = LoggerFactory.getLogger(HeroImageService.class);
+
+    public static final String URL_PREFIX = "/blog/img/";
+
+    private static final Pattern DERIVATIVE_NAME = Pattern.compile("[0-9a-f]{16}-\\d{1,5}\\.(jpg|png)");
+    // Whitespace separates descriptors and commas separate candidates in srcset
+    private static final Pattern UNSAFE_SRCSET_URL = Pattern.compile("[\\s,]");
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final BlogProperties blogProperties;
+    private final ResourceLoader resourceLoader;
+    private final Path cacheDir;
+    private final boolean nativeImage = NativeDetector.inNativeImage();
+    private final Map<String, CompletableFuture<Optional<HeroImage>>> resolved = new ConcurrentHashMap<>();
+
+    public HeroImageService(BlogProperties blogProperties, ResourceLoader resourceLoader) {
+        this.blogProperties = blogProperties;
+        this.resourceLoader = resourceLoader;
+
+        String configuredDir = blogProperties.getHeroImages().getCacheDir();
+        this.cacheDir = (configuredDir == null || configuredDir.isBlank())
+            ? Path.of(System.getProperty("java.io.tmpdir"), "devx-blog-images")
+            : Path.of(configuredDir);
+        if (nativeImage && blogProperties.getHeroImages().isEnabled()) {
+            log.warn("blog.hero-images.enabled is ignored in native images; hero images are served unresized");
+        }
+    }
+
+    /**
+     * Returns the responsive rendition for a post's heroImage, generating derivatives on first use.
+     * Concurrent callers for the same image wait for a single generation instead of repeating it.
+     *
+     * @param heroImage the heroImage front matter value (may be null)
+     * @return the rendition, or empty if the image is remote, missing or not a supported raster format
+     */
+    public Optional<HeroImage> resolve(String heroImage) {
+        if (!blogProperties.getHeroImages().isEnabled() || nativeImage || heroImage == null || heroImage.isBlank()) {
+            return Optional.empty();
+        }
+        CompletableFuture<Optional<HeroImage>> pending = resolved.get(heroImage);
+        if (pending == null) {
+            CompletableFuture<Optional<HeroImage>> created = new CompletableFuture<>();
+            pending = resolved.putIfAbsent(heroImage, created);
+            if (pending == null) {
+                // Encode outside the map so lookups of other images are not blocked meanwhile
+                try {
+                    created.complete(generate(heroImage));
+                } catch (RuntimeException e) {
+                    resolved.remove(heroImage, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+                return created.join();
+            }
+        }
+        return pending.join();
+    }
+
+    /**
+     * Returns whether {@link #resolve(String)} would answer from memory without checking or generating files.
+     */
+    public boolean isResolved(String heroImage) {
+        CompletableFuture<Optional<HeroImage>> pending = heroImage != null ? resolved.get(heroImage) : null;
+        return pending != null && pending.isDone();
+    }
+
+    /**
+     * Looks up a generated derivative by its public file name.
+     *
+     * @param fileName file name as it appears under {@link #URL_PREFIX}
+     * @return path to the cached file, or empty if the name is invalid or unknown
+     */
+    public Optional<Path> getDerivative(String fileName) {
+        if (fileName == null || !DERIVATIVE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        Path file = cacheDir.resolve(fileName);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Drops the in-memory lookup table; files on disk stay valid because they are content-addressed.
+     */
+    public void evict() {
+        resolved.clear();
+    }
+
+    private Optional<HeroImage> generate(String heroImage) {
+        String format = formatOf(heroImage);
+        if (format == null || heroImage.startsWith("http://") || heroImage.startsWith("https://")
+                || heroImage.startsWith("//")) {
+            return Optional.empty();
+        }
+
+        Resource source = findSource(heroImage);
+        if (source == null) {
+            log.warn("Hero image not found in configured source locations: {}", heroImage);
+            return Optional.empty();
+        }
+
+        try {
+            byte[] bytes;
+            try (var inputStream = source.getInputStream()) {
+                bytes = inputStream.readAllBytes();
+            }
+
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (original == null) {
+                log.warn("Unsupported hero image format: {}", heroImage);
+                return Optional.empty();
+            }
+
+            String hash = sha256Prefix(bytes);
+            List<Integer> widths = blogProperties.getHeroImages().getWidths().stream()
+                .filter(w -> w != null && w > 0 && w < original.getWidth())
+                .distinct()
+                .sorted()
+                .toList();
+            if (widths.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Files.createDirectories(cacheDir);
+            StringJoiner srcset = new StringJoiner(", ");
+            String src = null;
+            int srcWidth = 0;
+            int srcHeight = 0;
+            for (int width : widths) {
+                int height = Math.max(1, Math.round((float) original.getHeight() * width / original.getWidth()));
+                String fileName = hash + "-" + width + "." + format;
+                Path target = cacheDir.resolve(fileName);
+                if (!Files.exists(target)) {
+                    writeDerivative(resize(original, width, height, format), format, target);
+                }
+                src = URL_PREFIX + fileName;
+                srcWidth = width;
+                srcHeight = height;
+                srcset.add(src + " " + width + "w");
+            }
+
+            // The original stays the largest candidate so high-density screens are not served a downscale
+            if (!UNSAFE_SRCSET_URL.matcher(heroImage).find()) {
+                srcset.add(heroImage + " " + original.getWidth() + "w");
+            }
+
+            log.debug("Prepared {} hero image derivatives for {}", widths.size(), heroImage);
+            return Optional.of(new HeroImage(src, srcset.toString(), srcWidth, srcHeight));
+        } catch (IOException e) {
+            log.warn("Failed to generate hero image derivatives for {}: {}", heroImage, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Resource findSource(String heroImage) {
+        String relative = heroImage.startsWith("/") ? heroImage.substring(1) : heroImage;
+        int queryStart = relative.indexOf('?');
+        if (queryStart >= 0) {
+            relative = relative.substring(0, queryStart);
+        }
+        if (relative.contains("..")) {
+            return null;
+        }
+
+        for (String location : blogProperties.getHeroImages().getSourceLocations()) {
+            String base = location.endsWith("/") ? location : location + "/";
+            Resource resource = resourceLoader.getResource(base + relative);
+            if (resource.exists() && resource.isReadable()) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height, String format) {
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        // Halve in steps while far above the target size; a single bilinear pass aliases badly
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private static void writeDerivative(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            if ("jpg".equals(format)) {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(JPEG_QUALITY);
+                    writer.setOutput(output);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            } else {
+                ImageIO.write(image, format, temp.toFile());
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String formatOf(String heroImage) {
+        String path = heroImage.toLowerCase(Locale.ROOT);
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        if (path.endsWith(".jpg") || path.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        if (path.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+
+    private static String sha256Prefix(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
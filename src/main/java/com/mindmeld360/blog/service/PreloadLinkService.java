@@ -0,0 +1,182 @@
+package com.mindmeld360.blog.service;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.HeroImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Emits {@code Link: rel=preload} headers for the resources a blog page needs for first paint.
+ *
+ * Hero image hints are computed for every post in one pass while a new corpus loads (see
+ * {@link #prepare}), so requests only copy prepared header values. If the prepared table is
+ * missing or stale, one request rebuilds it while concurrent requests compute just their own
+ * post's hints. Sources without a corpus version (JDBC) get their hints computed per request;
+ * hero renditions are memoized either way.
+ */
+public class PreloadLinkService {
+
+    private static final Logger log = LoggerFactory.getLogger(PreloadLinkService.class);
+
+    // Characters that would break a Link header's <URI-reference> or quoted parameters
+    private static final Pattern UNSAFE_URL = Pattern.compile("[\\s<>\"\\\\]");
+
+    private final BlogProperties blogProperties;
+    private final BlogService blogService;
+    private final HeroImageService heroImageService;
+    private final StaticAssetService staticAssetService;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile PostHints postHints;
+
+    public PreloadLinkService(BlogProperties blogProperties, BlogService blogService,
+                              HeroImageService heroImageService, StaticAssetService staticAssetService) {
+        this.blogProperties = blogProperties;
+        this.blogService = blogService;
+        this.heroImageService = heroImageService;
+        this.staticAssetService = staticAssetService;
+    }
+
+    /**
+     * Adds the hints for the blog index.
+     */
+    public void applyIndexHints(HttpServletRequest request, HttpServletResponse response) {
+        apply(request, response, List.of());
+    }
+
+    /**
+     * Adds the hints for a post page: the shared ones plus the post's hero image.
+     */
+    public void applyPostHints(BlogPost post, HttpServletRequest request, HttpServletResponse response) {
+        if (blogProperties.getPreload().isEnabled()) {
+            apply(request, response, heroLinksFor(post));
+        }
+    }
+
+    /**
+     * Returns the hero image preload links for a post, without the shared stylesheet and font links.
+     */
+    public List<String> heroLinksFor(BlogPost post) {
+        Optional<String> version = blogService.getCorpusVersion();
+        if (version.isEmpty()) {
+            return heroLinks(post);
+        }
+
+        PostHints current = postHints;
+        if (current == null || !current.version().equals(version.get())) {
+            if (!rebuilding.compareAndSet(false, true)) {
+                return heroLinks(post);
+            }
+            try {
+                current = computeAll(version.get(), blogService.getAllPosts());
+                postHints = current;
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+        List<String> links = current.bySlug().get(post.slug());
+        return links != null ? links : heroLinks(post);
+    }
+
+    /**
+     * Prepares the hero hints for a corpus before it is served; registered as a corpus load listener.
+     */
+    public void prepare(String version, List<BlogPost> posts) {
+        if (blogProperties.getPreload().isEnabled()) {
+            postHints = computeAll(version, posts);
+        }
+    }
+
+    /**
+     * Forgets the prepared hints so they are recomputed from the next request.
+     */
+    public void evict() {
+        postHints = null;
+    }
+
+    private void apply(HttpServletRequest request, HttpServletResponse response, List<String> postLinks) {
+        BlogProperties.Preload settings = blogProperties.getPreload();
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        String contextPath = request.getContextPath();
+        String stylesheet = staticAssetService.resolveUrl(settings.getStylesheet());
+        if (isSafe(stylesheet)) {
+            response.addHeader("Link", "<" + contextRelative(contextPath, stylesheet) + ">; rel=preload; as=style");
+        }
+        for (String font : settings.getFonts()) {
+            if (isSafe(font)) {
+                response.addHeader("Link", "<" + contextRelative(contextPath, font)
+                    + ">; rel=preload; as=font; type=\"" + fontType(font) + "\"; crossorigin");
+            }
+        }
+        postLinks.forEach(link -> response.addHeader("Link", link));
+    }
+
+    private PostHints computeAll(String version, List<BlogPost> posts) {
+        long start = System.nanoTime();
+        Map<String, List<String>> bySlug = new HashMap<>();
+        for (BlogPost post : posts) {
+            bySlug.put(post.slug(), heroLinks(post));
+        }
+        log.info("Prepared preload hints for {} posts in {} ms", bySlug.size(), (System.nanoTime() - start) / 1_000_000);
+        return new PostHints(version, Map.copyOf(bySlug));
+    }
+
+    private List<String> heroLinks(BlogPost post) {
+        String heroImage = post.heroImage();
+        if (heroImage == null || heroImage.isBlank()) {
+            return List.of();
+        }
+
+        Optional<HeroImage> rendition = heroImageService.resolve(heroImage);
+        List<String> links = new ArrayList<>(1);
+        if (rendition.isPresent()) {
+            HeroImage hero = rendition.get();
+            // imagesrcset lets the browser preload the same candidate the <img srcset> will pick
+            links.add("<" + hero.src() + ">; rel=preload; as=image; imagesrcset=\"" + hero.srcset()
+                + "\"; imagesizes=\"" + blogProperties.getHeroImages().getPostSizes() + "\"");
+        } else if (isSafe(heroImage)) {
+            links.add("<" + heroImage + ">; rel=preload; as=image");
+        }
+        return List.copyOf(links);
+    }
+
+    private static String contextRelative(String contextPath, String url) {
+        return url.startsWith("/") && !url.startsWith("//") && contextPath != null ? contextPath + url : url;
+    }
+
+    private static String fontType(String url) {
+        String path = url.toLowerCase();
+        if (path.endsWith(".woff")) {
+            return "font/woff";
+        }
+        if (path.endsWith(".ttf")) {
+            return "font/ttf";
+        }
+        if (path.endsWith(".otf")) {
+            return "font/otf";
+        }
+        return "font/woff2";
+    }
+
+    private static boolean isSafe(String url) {
+        return url != null && !url.isBlank() && !UNSAFE_URL.matcher(url).find();
+    }
+
+    private record PostHints(String version, Map<String, List<String>> bySlug) {
+    }
+}
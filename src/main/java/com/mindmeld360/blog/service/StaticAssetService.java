@@ -0,0 +1,112 @@
+package com.mindmeld360.blog.service;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves the library's own static assets under content-hashed names.
+ *
+ * Each asset is read from {@code classpath:/static/} once and published as
+ * {@code /blog/assets/<name>-<hash>.<ext>}, so the URL changes whenever the library
+ * ships a different file and responses can be cached as immutable. The plain
+ * {@code /css/devx-blog.css} path keeps working through Spring Boot's static resources.
+ */
+public class StaticAssetService {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetService.class);
+
+    public static final String URL_PREFIX = "/blog/assets/";
+    public static final String STYLESHEET = "/css/devx-blog.css";
+
+    private static final List<String> ASSETS = List.of(STYLESHEET);
+    private static final String CRITICAL_CSS = "classpath:/static/css/devx-blog-critical.css";
+
+    private final Map<String, String> urlsByPath = new HashMap<>();
+    private final Map<String, Asset> assetsByFileName = new HashMap<>();
+    private final String criticalCss;
+
+    public StaticAssetService(BlogProperties blogProperties, ResourceLoader resourceLoader) {
+        for (String path : blogProperties.getAssets().isFingerprint() ? ASSETS : List.<String>of()) {
+            Resource resource = resourceLoader.getResource("classpath:/static" + path);
+            try (var inputStream = resource.getInputStream()) {
+                byte[] content = inputStream.readAllBytes();
+                String fileName = fingerprint(path.substring(path.lastIndexOf('/') + 1), content);
+                urlsByPath.put(path, URL_PREFIX + fileName);
+                assetsByFileName.put(fileName, new Asset(content, mediaTypeOf(path)));
+            } catch (IOException e) {
+                log.warn("Static asset {} not found; serving it unversioned", path);
+            }
+        }
+
+        this.criticalCss = blogProperties.getAssets().isInlineCriticalCss() ? readCriticalCss(resourceLoader) : null;
+    }
+
+    /**
+     * Maps a library asset path such as {@code /css/devx-blog.css} to its fingerprinted URL.
+     *
+     * @return the fingerprinted URL, or the path unchanged if it is not a library asset
+     */
+    public String resolveUrl(String path) {
+        return urlsByPath.getOrDefault(path, path);
+    }
+
+    /**
+     * Looks up a fingerprinted asset by its public file name.
+     */
+    public Optional<Asset> find(String fileName) {
+        return Optional.ofNullable(assetsByFileName.get(fileName));
+    }
+
+    /**
+     * Returns the above-the-fold CSS to inline, or null when inlining is disabled.
+     */
+    public String getCriticalCss() {
+        return criticalCss;
+    }
+
+    private static String readCriticalCss(ResourceLoader resourceLoader) {
+        try (var inputStream = resourceLoader.getResource(CRITICAL_CSS).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)
+                // Never let the stylesheet close the inline <style> element
+                .replace("</", "<\\/");
+        } catch (IOException e) {
+            log.warn("Critical CSS not found; falling back to the full stylesheet");
+            return null;
+        }
+    }
+
+    private static String fingerprint(String fileName, byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            int dot = fileName.lastIndexOf('.');
+            return fileName.substring(0, dot) + "-" + HexFormat.of().formatHex(digest, 0, 8) + fileName.substring(dot);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static MediaType mediaTypeOf(String path) {
+        return path.endsWith(".css") ? MediaType.valueOf("text/css;charset=UTF-8") : MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * @param content   asset bytes
+     * @param mediaType Content-Type to serve them with
+     */
+    public record Asset(byte[] content, MediaType mediaType) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.mindmeld360.blog.web;
+
+import com.mindmeld360.blog.service.StaticAssetService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Rewrites links to library assets to their fingerprinted URLs.
+ *
+ * Thymeleaf passes {@code @{...}} link expressions through {@link HttpServletResponse#encodeURL},
+ * so an existing {@code th:href="@{/css/devx-blog.css}"} in the consumer's head fragment
+ * renders as {@code /blog/assets/devx-blog-<hash>.css} without template changes.
+ */
+public class AssetUrlEncodingFilter extends OncePerRequestFilter {
+
+    private final StaticAssetService staticAssetService;
+
+    public AssetUrlEncodingFilter(StaticAssetService staticAssetService) {
+        this.staticAssetService = staticAssetService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, new HttpServletResponseWrapper(response) {
+            @Override
+            public String encodeURL(String url) {
+                return super.encodeURL(rewrite(request.getContextPath(), url));
+            }
+        });
+    }
+
+    private String rewrite(String contextPath, String url) {
+        if (url == null || !url.startsWith(contextPath)) {
+            return url;
+        }
+        String path = url.substring(contextPath.length());
+        int suffix = indexOfQueryOrFragment(path);
+        String lookup = suffix >= 0 ? path.substring(0, suffix) : path;
+        String resolved = staticAssetService.resolveUrl(lookup);
+        if (resolved.equals(lookup)) {
+            return url;
+        }
+        return contextPath + resolved + (suffix >= 0 ? path.substring(suffix) : "");
+    }
+
+    private static int indexOfQueryOrFragment(String path) {
+        int query = path.indexOf('?');
+        int fragment = path.indexOf('#');
+        if (query < 0) {
+            return fragment;
+        }
+        return fragment < 0 ? query : Math.min(query, fragment);
+    }
+}
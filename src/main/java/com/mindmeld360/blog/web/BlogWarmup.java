@@ -0,0 +1,169 @@
+package com.mindmeld360.blog.web;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.controller.RssFeedController;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.WarmupReport;
+import com.mindmeld360.blog.service.BlogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Warms the blog up before the application reports itself ready.
+ *
+ * Runs as an {@link ApplicationRunner}, and Spring Boot only publishes
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} after all runners have returned, so readiness
+ * probes keep the instance out of rotation until warm-up ends. The corpus is loaded, then
+ * the index, the newest posts and the RSS feed are requested over HTTP from the embedded
+ * server, which compiles templates and exercises the real controller, filter and view path.
+ * Without an embedded server (mock web environments) only the corpus and feed are built.
+ */
+public class BlogWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogWarmup.class);
+
+    private final BlogService blogService;
+    private final RssFeedController rssFeedController;
+    private final BlogProperties blogProperties;
+    private final ApplicationContext applicationContext;
+
+    private volatile WarmupReport report;
+
+    public BlogWarmup(BlogService blogService, RssFeedController rssFeedController,
+                      BlogProperties blogProperties, ApplicationContext applicationContext) {
+        this.blogService = blogService;
+        this.rssFeedController = rssFeedController;
+        this.blogProperties = blogProperties;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        BlogProperties.Warmup settings = blogProperties.getWarmup();
+        if (!settings.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.nanoTime();
+        List<WarmupReport.Step> steps = new ArrayList<>();
+        List<String> slugs = new ArrayList<>();
+        steps.add(time("corpus", () -> {
+            blogService.getRecentPosts(settings.getPostCount()).stream().map(BlogPost::slug).forEach(slugs::add);
+            return 200;
+        }));
+
+        Optional<String> baseUrl = resolveBaseUrl(settings);
+        if (baseUrl.isPresent()) {
+            List<String> paths = new ArrayList<>();
+            paths.add("/blog");
+            slugs.forEach(slug -> paths.add("/blog/" + slug));
+            paths.add("/blog/rss.xml");
+
+            HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(settings.getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+            for (int round = 0; round < settings.getRounds(); round++) {
+                for (String path : paths) {
+                    steps.add(time(path, () -> get(client, baseUrl.get() + path, settings.getRequestTimeout())));
+                }
+            }
+        } else {
+            steps.add(time("rss", () -> {
+                rssFeedController.rssFeed(null, null, null);
+                return 200;
+            }));
+        }
+
+        report = new WarmupReport(Instant.now(), Duration.ofNanos(System.nanoTime() - start), steps);
+        log.info("Blog warm-up finished in {} ms: {}", report.total().toMillis(), summarize(report));
+    }
+
+    /**
+     * Returns the timings of the last warm-up, or empty if it is disabled or has not run.
+     */
+    public Optional<WarmupReport> getReport() {
+        return Optional.ofNullable(report);
+    }
+
+    private Optional<String> resolveBaseUrl(BlogProperties.Warmup settings) {
+        String configured = settings.getBaseUrl();
+        if (configured != null && !configured.isBlank()) {
+            return Optional.of(configured.endsWith("/") ? configured.substring(0, configured.length() - 1) : configured);
+        }
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return Optional.empty();
+        }
+        WebServer webServer = webContext.getWebServer();
+        if (webServer == null || webServer.getPort() <= 0) {
+            return Optional.empty();
+        }
+        String contextPath = "";
+        if (webContext instanceof ServletWebServerApplicationContext servletContext
+                && servletContext.getServletContext() != null) {
+            contextPath = servletContext.getServletContext().getContextPath();
+        }
+        return Optional.of("http://localhost:" + webServer.getPort() + contextPath);
+    }
+
+    private static int get(HttpClient client, String url, Duration timeout) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .header("User-Agent", "devx-blog-warmup")
+            .GET()
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static WarmupReport.Step time(String target, Callable<Integer> step) {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = step.call();
+            if (status >= 400) {
+                log.warn("Warm-up request {} returned {}", target, status);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("Warm-up of {} failed: {}", target, e.toString());
+            status = 0;
+        }
+        return new WarmupReport.Step(target, status, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static String summarize(WarmupReport report) {
+        StringBuilder summary = new StringBuilder();
+        for (WarmupReport.Step step : report.steps()) {
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(step.target()).append('=').append(step.duration().toMillis()).append("ms");
+            if (step.status() != 200) {
+                summary.append(" (").append(step.status()).append(')');
+            }
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.mindmeld360.blog.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+/**
+ * Writer that passes text through until the first occurrence of the request's marker
+ * (see {@link PostBodyFilter#createMarker}), which it replaces with the post body.
+ *
+ * The marker starts with the only '<' it contains, so a mismatch can never hide the start of
+ * another match and a simple prefix counter is enough.
+ *
+ * With a positive chunk size the writer streams: everything before the marker is flushed to the
+ * client first, then the body follows in chunks of that size (bytes, or chars for a text body)
+ * with a flush after each.
+ */
+class BodySplicingWriter extends Writer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final char[] marker;
+    private final Writer delegate;
+    private final OutputStream outputStream;
+    private final ByteBuffer encodedBody;
+    private final String textBody;
+    private final int chunkSize;
+
+    private int matched;
+    private boolean spliced;
+
+    /**
+     * Splices pre-encoded UTF-8 bytes directly into {@code outputStream}, which {@code delegate} encodes into.
+     */
+    BodySplicingWriter(String marker, Writer delegate, OutputStream outputStream, ByteBuffer encodedBody, int chunkSize) {
+        this.marker = marker.toCharArray();
+        this.delegate = delegate;
+        this.outputStream = outputStream;
+        this.encodedBody = encodedBody;
+        this.textBody = null;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Splices already decoded text through {@code delegate}.
+     */
+    BodySplicingWriter(String marker, Writer delegate, String textBody, int chunkSize) {
+        this.marker = marker.toCharArray();
+        this.delegate = delegate;
+        this.outputStream = null;
+        this.encodedBody = null;
+        this.textBody = textBody;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        if (spliced) {
+            delegate.write(cbuf, off, len);
+            return;
+        }
+
+        int end = off + len;
+        int runStart = off;
+        for (int i = off; i < end; i++) {
+            char c = cbuf[i];
+            if (c == marker[matched]) {
+                if (matched == 0 && i > runStart) {
+                    delegate.write(cbuf, runStart, i - runStart);
+                }
+                matched++;
+                runStart = i + 1;
+                if (matched == marker.length) {
+                    matched = 0;
+                    spliced = true;
+                    writeBody();
+                    if (i + 1 < end) {
+                        delegate.write(cbuf, i + 1, end - i - 1);
+                    }
+                    return;
+                }
+            } else if (matched > 0) {
+                delegate.write(marker, 0, matched);
+                matched = 0;
+                if (c == marker[0]) {
+                    matched = 1;
+                    runStart = i + 1;
+                } else {
+                    runStart = i;
+                }
+            }
+        }
+        if (matched == 0 && runStart < end) {
+            delegate.write(cbuf, runStart, end - runStart);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        delegate.close();
+    }
+
+    /**
+     * Emits marker characters held back by an incomplete match.
+     */
+    void finish() throws IOException {
+        if (matched > 0) {
+            delegate.write(marker, 0, matched);
+            matched = 0;
+        }
+        delegate.flush();
+    }
+
+    private void writeBody() throws IOException {
+        boolean streaming = chunkSize > 0;
+        if (textBody != null) {
+            if (!streaming) {
+                delegate.write(textBody);
+                return;
+            }
+            // Head and post header go out before the first body character is written
+            delegate.flush();
+            for (int offset = 0; offset < textBody.length(); offset += chunkSize) {
+                delegate.write(textBody, offset, Math.min(chunkSize, textBody.length() - offset));
+                delegate.flush();
+            }
+            return;
+        }
+
+        // Push out everything encoded so far, then copy body bytes without touching the encoder
+        delegate.flush();
+        ByteBuffer body = encodedBody.duplicate();
+        byte[] chunk = new byte[Math.min(streaming ? chunkSize : CHUNK_SIZE, Math.max(body.remaining(), 1))];
+        while (body.hasRemaining()) {
+            int length = Math.min(chunk.length, body.remaining());
+            body.get(chunk, 0, length);
+            outputStream.write(chunk, 0, length);
+            if (streaming) {
+                outputStream.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mindmeld360.blog.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Splices pre-encoded post bodies into rendered pages.
+ *
+ * When a controller stores a UTF-8 {@link java.nio.ByteBuffer} under {@link #BODY_ATTRIBUTE}
+ * and the template emits the marker from {@link #createMarker} where the body belongs, the templated header and
+ * footer are written normally and the body bytes are copied to the response in bulk
+ * without being decoded or re-encoded. A {@link String} body is spliced as text.
+ *
+ * When a chunk size is also stored under {@link #STREAM_ATTRIBUTE}, the page up to the marker
+ * is flushed to the client before the body, and the body is sent in flushed chunks.
+ *
+ * Markers are random per request, so author-controlled text rendered before the body (a description
+ * in the JSON-LD, say) can never contain the marker and capture the body.
+ */
+public class PostBodyFilter extends OncePerRequestFilter {
+
+    public static final String BODY_ATTRIBUTE = PostBodyFilter.class.getName() + ".BODY";
+    public static final String STREAM_ATTRIBUTE = PostBodyFilter.class.getName() + ".STREAM";
+    public static final String MARKER_ATTRIBUTE = PostBodyFilter.class.getName() + ".MARKER";
+
+    private static final String MARKER_PREFIX = "<!--devx-blog:post-body:";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Creates the marker for this request and stores it under {@link #MARKER_ATTRIBUTE}.
+     */
+    public static String createMarker(HttpServletRequest request) {
+        byte[] token = new byte[16];
+        RANDOM.nextBytes(token);
+        // Hex only, so the leading '<' stays the marker's sole '<'
+        String marker = MARKER_PREFIX + HexFormat.of().formatHex(token) + "-->";
+        request.setAttribute(MARKER_ATTRIBUTE, marker);
+        return marker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        PostBodyResponseWrapper wrapper = new PostBodyResponseWrapper(request, response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.finish();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mindmeld360.blog.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hands out a writer that replaces the request's marker with the body stored on the request.
+ * Responses without a stored body and marker are passed through untouched.
+ */
+class PostBodyResponseWrapper extends HttpServletResponseWrapper {
+
+    private final HttpServletRequest request;
+    private PrintWriter writer;
+    private BodySplicingWriter splicingWriter;
+
+    PostBodyResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+        super(response);
+        this.request = request;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer != null) {
+            return writer;
+        }
+        Object stored = request.getAttribute(PostBodyFilter.BODY_ATTRIBUTE);
+        if (!(request.getAttribute(PostBodyFilter.MARKER_ATTRIBUTE) instanceof String marker)) {
+            return super.getWriter();
+        }
+        int chunkSize = request.getAttribute(PostBodyFilter.STREAM_ATTRIBUTE) instanceof Integer size ? size : 0;
+        if (stored instanceof String html) {
+            splicingWriter = new BodySplicingWriter(marker, super.getWriter(), html, chunkSize);
+            writer = new PrintWriter(splicingWriter);
+            return writer;
+        }
+        if (!(stored instanceof ByteBuffer body)) {
+            return super.getWriter();
+        }
+
+        Charset charset = Charset.forName(getCharacterEncoding());
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            // Raw UTF-8 bytes can only be spliced into a UTF-8 response; decode for anything else
+            String html = StandardCharsets.UTF_8.decode(body.duplicate()).toString();
+            request.setAttribute(PostBodyFilter.BODY_ATTRIBUTE, null);
+            splicingWriter = new BodySplicingWriter(marker, super.getWriter(), html, chunkSize);
+            writer = new PrintWriter(splicingWriter);
+            return writer;
+        }
+
+        var outputStream = getResponse().getOutputStream();
+        splicingWriter = new BodySplicingWriter(marker, new OutputStreamWriter(outputStream, charset), outputStream, body, chunkSize);
+        writer = new PrintWriter(splicingWriter);
+        return writer;
+    }
+
+    /**
+     * Flushes any partially matched marker text left at the end of the page.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (splicingWriter != null) {
+            splicingWriter.finish();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mindmeld360.blog.web;
+
+import jakarta.servlet.ServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Phase durations and cache outcomes of one blog request, sent as a {@code Server-Timing} header
+ * by {@link ServerTimingFilter}.
+ *
+ * Controllers obtain the instance with {@link #of(ServletRequest)} and chain phases:
+ * <pre>
+ * long start = timings.start();
+ * ... look up posts ...
+ * start = timings.stop("lookup", start);
+ * </pre>
+ * Without the filter, {@code of} returns a shared disabled instance whose methods do nothing
+ * and do not read the clock.
+ */
+public final class RequestTimings {
+
+    static final String ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final RequestTimings DISABLED = new RequestTimings(false);
+
+    private final boolean enabled;
+    private final List<String> metrics;
+    private long renderStart;
+
+    private RequestTimings(boolean enabled) {
+        this.enabled = enabled;
+        this.metrics = enabled ? new ArrayList<>(8) : List.of();
+    }
+
+    static RequestTimings create() {
+        return new RequestTimings(true);
+    }
+
+    /**
+     * Returns the timings of the current request, or a disabled instance if Server-Timing is off.
+     */
+    public static RequestTimings of(ServletRequest request) {
+        if (request != null && request.getAttribute(ATTRIBUTE) instanceof RequestTimings timings) {
+            return timings;
+        }
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current time for a following {@link #stop(String, long)}.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since {@code start} under {@code metric}.
+     *
+     * @return the current time, to start the next phase
+     */
+    public long stop(String metric, long start) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        metrics.add(metric + ";dur=" + millis(now - start));
+        return now;
+    }
+
+    /**
+     * Records whether a cache served the request.
+     */
+    public void cache(String metric, boolean hit) {
+        if (enabled) {
+            metrics.add(metric + ";desc=" + (hit ? "hit" : "miss"));
+        }
+    }
+
+    /**
+     * Marks the end of the controller; the time until the response is complete is reported as {@code render}.
+     */
+    public void startRender() {
+        if (enabled) {
+            renderStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * @param complete whether the response is complete; otherwise {@code render} and {@code total}
+     *                 are left out because the page is still being written
+     */
+    String toHeaderValue(long requestStart, boolean complete) {
+        if (!complete) {
+            return String.join(", ", metrics);
+        }
+        long now = System.nanoTime();
+        List<String> all = new ArrayList<>(metrics);
+        if (renderStart != 0) {
+            all.add("render;dur=" + millis(now - renderStart));
+        }
+        all.add("total;dur=" + millis(now - requestStart));
+        return String.join(", ", all);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.mindmeld360.blog.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Adds a {@code Server-Timing} header to blog pages and the RSS feed, e.g.
+ * {@code lookup;dur=0.41, jsonld;dur=0.12, hero-cache;desc=hit, model;dur=0.08, render;dur=3.90, total;dur=4.62}.
+ *
+ * The response body is buffered until the request completes, so the header can include
+ * template rendering. Streamed post pages (see {@link PostBodyFilter#STREAM_ATTRIBUTE}) are
+ * not buffered: when rendering starts, the header is sent with the controller phases known
+ * so far and the body goes straight to the client. Only registered when
+ * {@code blog.server-timing.enabled=true}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Images and stylesheets have no phases worth reporting and should not be buffered
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/blog/img/") || path.startsWith("/blog/assets/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimings timings = RequestTimings.create();
+        request.setAttribute(RequestTimings.ATTRIBUTE, timings);
+
+        TimingResponseWrapper wrapper = new TimingResponseWrapper(request, response, timings, start);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            if (!wrapper.streaming && !response.isCommitted()) {
+                response.addHeader(HEADER, timings.toHeaderValue(start, true));
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Buffers the body unless the page is streamed, which is known once the template asks for a writer.
+     */
+    private static final class TimingResponseWrapper extends ContentCachingResponseWrapper {
+        private final HttpServletRequest request;
+        private final RequestTimings timings;
+        private final long start;
+        private boolean streaming;
+
+        TimingResponseWrapper(HttpServletRequest request, HttpServletResponse response,
+                              RequestTimings timings, long start) {
+            super(response);
+            this.request = request;
+            this.timings = timings;
+            this.start = start;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return startStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return startStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        private boolean startStreaming() {
+            if (!streaming && getContentSize() == 0 && request.getAttribute(PostBodyFilter.STREAM_ATTRIBUTE) != null) {
+                streaming = true;
+                String value = timings.toHeaderValue(start, false);
+                if (!value.isEmpty() && !isCommitted()) {
+                    ((HttpServletResponse) getResponse()).addHeader(HEADER, value);
+                }
+            }
+            return streaming;
+        }
+    }
+}
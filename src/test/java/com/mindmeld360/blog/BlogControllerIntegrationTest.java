@@ -8,13 +8,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 @WebMvcTest
 @Import(BlogConfiguration.class)
-@TestPropertySource(locations = "classpath:application.properties")
+@TestPropertySource(locations = "classpath:application.properties",
+    properties = {"blog.preload.enabled=true", "blog.assets.fingerprint=true"})
 class BlogControllerIntegrationTest {
 
     @Autowired
@@ -37,6 +42,13 @@ class BlogControllerIntegrationTest {
             .andExpect(model().attribute("posts", hasSize(greaterThanOrEqualTo(1))));
     }
 
+    @Test
+    void blogIndex_shouldNotSendServerTimingByDefault() throws Exception {
+        mockMvc.perform(get("/blog"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
     @Test
     void blogPost_shouldReturnPostPage() throws Exception {
         mockMvc.perform(get("/blog/test-post"))
@@ -55,6 +67,50 @@ class BlogControllerIntegrationTest {
             .andExpect(model().attribute("slug", "non-existent-post"));
     }
 
+    @Test
+    void blogPost_shouldSendPreloadLinks() throws Exception {
+        mockMvc.perform(get("/blog/test-post"))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues("Link",
+                hasItem(matchesPattern("</blog/assets/devx-blog-[0-9a-f]{16}\\.css>; rel=preload; as=style"))));
+    }
+
+    @Test
+    void blogPost_shouldLinkFingerprintedStylesheet() throws Exception {
+        String page = mockMvc.perform(get("/blog/test-post"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        Matcher stylesheet = Pattern.compile("href=\"(/blog/assets/devx-blog-[0-9a-f]{16}\\.css)\"").matcher(page);
+        assertTrue(stylesheet.find(), "Page should link the fingerprinted stylesheet");
+        assertFalse(page.contains("href=\"/css/devx-blog.css\""));
+
+        mockMvc.perform(get(stylesheet.group(1)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", containsString("immutable")));
+    }
+
+    @Test
+    void blogPost_shouldNotSendPreloadLinksFor404() throws Exception {
+        mockMvc.perform(get("/blog/non-existent-post"))
+            .andExpect(status().isNotFound())
+            .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void stylesheet_shouldBeServedFingerprintedAndImmutable() throws Exception {
+        String url = (String) mockMvc.perform(get("/blog"))
+            .andExpect(model().attribute("blogStylesheetUrl", matchesPattern("/blog/assets/devx-blog-[0-9a-f]{16}\\.css")))
+            .andReturn().getModelAndView().getModel().get("blogStylesheetUrl");
+
+        mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", containsString("immutable")))
+            .andExpect(content().string(containsString(".sb-blog-container")));
+        mockMvc.perform(get("/blog/assets/devx-blog-0000000000000000.css"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void rssFeed_shouldReturnXml() throws Exception {
         mockMvc.perform(get("/blog/rss.xml"))
@@ -65,6 +121,20 @@ class BlogControllerIntegrationTest {
             .andExpect(content().string(containsString("Test Post Title")));
     }
 
+    @Test
+    void rssFeed_shouldAnswerMatchingEtagWith304() throws Exception {
+        String etag = mockMvc.perform(get("/blog/rss.xml"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/blog/rss.xml").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        mockMvc.perform(get("/blog/rss.xml").header("If-None-Match", etag).header("A-IM", "feed"))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     void rssFeed_shouldContainRfc822Date() throws Exception {
         mockMvc.perform(get("/blog/rss.xml"))
@@ -0,0 +1,91 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.actuate.BlogEndpoint;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.CorpusLoadReport;
+import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.service.HeroImageService;
+import com.mindmeld360.blog.service.PreloadLinkService;
+import com.mindmeld360.blog.service.StaticAssetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Loads content through a custom class loader, which native images do not support
+@DisabledInNativeImage
+class BlogEndpointTest {
+
+    @TempDir
+    Path contentRoot;
+
+    private Path posts;
+    private BlogEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        posts = Files.createDirectories(contentRoot.resolve("content/blog"));
+        write("first.md", "---\ntitle: First\npubDate: 2024-01-01\n---\n\nHello **world**.\n");
+        write("untitled.md", "---\npubDate: 2024-01-02\n---\n\nNo title.\n");
+
+        BlogProperties blogProperties = new BlogProperties();
+        blogProperties.setPublisherUrl("https://test.example.com");
+        blogProperties.setContentPath("content/blog");
+        blogProperties.getHeroImages().setEnabled(false);
+
+        var resolver = new PathMatchingResourcePatternResolver(
+            new URLClassLoader(new URL[]{contentRoot.toUri().toURL()}, null));
+        BlogService blogService = new BlogService(blogProperties, resolver);
+        HeroImageService heroImageService = new HeroImageService(blogProperties, resolver);
+        PreloadLinkService preloadLinkService = new PreloadLinkService(blogProperties, blogService,
+            heroImageService, new StaticAssetService(blogProperties, resolver));
+        endpoint = new BlogEndpoint(blogService, new FeedService(blogService, blogProperties),
+            preloadLinkService, heroImageService, null);
+    }
+
+    @Test
+    void blog_shouldReportPostStatsAndFailures() {
+        BlogEndpoint.BlogDescriptor descriptor = endpoint.blog();
+
+        assertEquals(1, descriptor.posts());
+        assertNotNull(descriptor.corpusVersion());
+        CorpusLoadReport lastLoad = descriptor.lastLoad();
+        assertEquals("rendered", lastLoad.origin());
+        assertEquals(2, lastLoad.files());
+        assertEquals(1, lastLoad.failures().size());
+        assertEquals("untitled.md", lastLoad.failures().get(0).file());
+        assertEquals("missing title", lastLoad.failures().get(0).reason());
+
+        CorpusLoadReport.PostStats first = endpoint.post("first");
+        assertNotNull(first.renderTime());
+        assertTrue(first.htmlBytes() > 0);
+        assertNull(first.degraded());
+        assertEquals(lastLoad.htmlBytes(), first.htmlBytes());
+        assertNull(endpoint.post("untitled"));
+    }
+
+    @Test
+    void reload_shouldPickUpChangedContent() throws Exception {
+        String before = endpoint.blog().corpusVersion();
+        write("second.md", "---\ntitle: Second\npubDate: 2024-02-01\n---\n\nMore.\n");
+
+        BlogEndpoint.BlogDescriptor reloaded = endpoint.reload();
+
+        assertEquals(2, reloaded.posts());
+        assertNotEquals(before, reloaded.corpusVersion());
+        assertEquals(2, reloaded.slowest().size());
+    }
+
+    private void write(String name, String content) throws Exception {
+        Files.writeString(posts.resolve(name), content);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.aot.BlogRuntimeHints;
+import com.mindmeld360.blog.aot.CorpusIndexAotProcessor;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.CorpusIndex;
+import com.mindmeld360.blog.content.MarkdownPostParser;
+import com.mindmeld360.blog.model.BlogPost;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.lang.model.element.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs AOT processing and custom class loaders, which only exist on the JVM
+@DisabledInNativeImage
+class BlogRuntimeHintsTest {
+
+    @TempDir
+    Path contentRoot;
+
+    @Test
+    void registerHints_shouldCoverTemplatesModelAndRome() {
+        RuntimeHints hints = new RuntimeHints();
+        new BlogRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource("templates/blog/post.html").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("static/css/devx-blog.css").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("content/blog/test-post.md").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(BlogPost.class, "title").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BlogProperties.RenderBudget.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onType(com.rometools.rome.io.impl.RSS20Generator.class).test(hints));
+    }
+
+    @Test
+    void processAheadOfTime_shouldCompileIndexIntoInitializationCode() throws Exception {
+        writePost("site/posts/hello.md", "Hello");
+        writePost("site/posts/world.md", "World");
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(classLoader());
+        beanFactory.registerBeanDefinition("blogProperties", new RootBeanDefinition(BlogProperties.class));
+        beanFactory.registerSingleton("environment", new MockEnvironment().withProperty("blog.content-path", "site/posts"));
+
+        BeanFactoryInitializationAotContribution contribution =
+            new CorpusIndexAotProcessor().processAheadOfTime(beanFactory);
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get("com.example", "App")), generatedFiles);
+        GeneratedClass generatedClass = generationContext.getGeneratedClasses()
+            .addForFeature("BeanFactoryRegistrations", type -> type.addModifiers(Modifier.PUBLIC));
+        List<MethodReference> initializers = new ArrayList<>();
+        contribution.applyTo(generationContext, new BeanFactoryInitializationCode() {
+            @Override
+            public GeneratedMethods getMethods() {
+                return generatedClass.getMethods();
+            }
+
+            @Override
+            public void addInitializer(MethodReference methodReference) {
+                initializers.add(methodReference);
+            }
+        });
+        generationContext.writeGeneratedContent();
+
+        assertEquals(1, initializers.size());
+        String source = generatedFiles.getGeneratedFileContent(GeneratedFiles.Kind.SOURCE,
+            generatedClass.getName().reflectionName().replace('.', '/') + ".java");
+        assertTrue(source.contains("beanFactory.registerSingleton(\"blogCorpusIndex\", new CorpusIndex(\"site/posts\", "
+            + "List.of(\"site/posts/hello.md\", \"site/posts/world.md\")))"), source);
+        assertTrue(RuntimeHintsPredicates.resource().forResource("site/posts/world.md")
+            .test(generationContext.getRuntimeHints()));
+    }
+
+    @Test
+    void contentSource_shouldLoadOnlyIndexedFiles() throws Exception {
+        writePost("content/blog/indexed.md", "Indexed");
+        writePost("content/blog/unindexed.md", "Unindexed");
+
+        BlogProperties blogProperties = new BlogProperties();
+        blogProperties.setPublisherUrl("https://test.example.com");
+        ClasspathContentSource contentSource = new ClasspathContentSource(blogProperties,
+            new PathMatchingResourcePatternResolver(classLoader()),
+            new MarkdownPostParser(blogProperties, AnalysisPipeline.defaults(blogProperties)),
+            blogProperties.getBodyStorage(), null,
+            new CorpusIndex("content/blog", List.of("content/blog/indexed.md")));
+
+        assertEquals(List.of("Indexed"), contentSource.findAll().stream().map(BlogPost::title).toList());
+    }
+
+    private void writePost(String location, String title) throws Exception {
+        Path file = contentRoot.resolve(location);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "---\ntitle: " + title + "\npubDate: 2024-01-01\n---\n\nBody.\n");
+    }
+
+    private ClassLoader classLoader() throws Exception {
+        return new URLClassLoader(new URL[]{contentRoot.toUri().toURL()}, null);
+    }
+}
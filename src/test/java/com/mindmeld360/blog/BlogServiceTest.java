@@ -3,12 +3,15 @@ package com.mindmeld360.blog;
 import com.mindmeld360.blog.config.BlogProperties;
 import com.mindmeld360.blog.exception.BlogNotFoundException;
 import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.PostAnalysis;
+import com.mindmeld360.blog.model.TocEntry;
 import com.mindmeld360.blog.service.BlogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,13 +82,25 @@ class BlogServiceTest {
 
         String html = testPost.get().htmlContent();
         assertNotNull(html);
-        assertTrue(html.contains("<h2>"), "Should contain H2 heading");
+        assertTrue(html.contains("<h2 id=\"test-content\">"), "Should contain anchored H2 heading");
         assertTrue(html.contains("<strong>test content</strong>"), "Should render bold text");
         assertTrue(html.contains("<li>"), "Should render list items");
         assertTrue(html.contains("<code>"), "Should render inline code");
         assertTrue(html.contains("<a href="), "Should render links");
     }
 
+    @Test
+    void getAllPosts_shouldAnalyzePostInSinglePass() {
+        PostAnalysis analysis = blogService.getPostBySlugOrThrow("test-post").analysis();
+
+        assertEquals(List.of(new TocEntry(2, "Test Content", "test-content")), analysis.toc());
+        assertTrue(analysis.wordCount() > 10, "Should count words in prose");
+        assertEquals(1, analysis.readingTimeMinutes());
+        assertEquals(List.of("https://example.com"), analysis.outboundLinks());
+        assertTrue(analysis.internalLinks().isEmpty());
+        assertEquals("This is the test content of the blog post.", analysis.excerpt());
+    }
+
     @Test
     void getAllPosts_shouldSortByDateDescending() {
         List<BlogPost> posts = blogService.getAllPosts();
@@ -136,4 +151,22 @@ class BlogServiceTest {
 
         assertEquals("/blog/test-post", post.getUrl());
     }
+
+    @Test
+    void addLoadListener_shouldSeeEachCorpusBeforeItIsServed() {
+        List<String> versions = new ArrayList<>();
+        blogService.addLoadListener((version, posts) -> {
+            assertFalse(posts.isEmpty());
+            versions.add(version);
+        });
+
+        blogService.getAllPosts();
+        blogService.getAllPosts();
+        assertEquals(1, versions.size());
+
+        blogService.reload();
+        blogService.getAllPosts();
+        assertEquals(List.of(blogService.getCorpusVersion().orElseThrow(), blogService.getCorpusVersion().orElseThrow()),
+            versions);
+    }
 }
@@ -0,0 +1,62 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.controller.RssFeedController;
+import com.mindmeld360.blog.model.WarmupReport;
+import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import com.mindmeld360.blog.web.BlogWarmup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogWarmupTest {
+
+    private BlogProperties blogProperties;
+    private GenericApplicationContext context;
+    private BlogWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        blogProperties = new BlogProperties();
+        blogProperties.setTitle("Test Blog");
+        blogProperties.setDescription("Test Description");
+        blogProperties.setPublisherUrl("https://test.example.com");
+        blogProperties.setContentPath("content/blog");
+        blogProperties.getWarmup().setEnabled(true);
+
+        context = new GenericApplicationContext();
+        context.registerBean(ApplicationAvailabilityBean.class);
+        context.refresh();
+
+        BlogService blogService = new BlogService(blogProperties, new PathMatchingResourcePatternResolver());
+        RssFeedController rssFeedController = new RssFeedController(new FeedService(blogService, blogProperties));
+        warmup = new BlogWarmup(blogService, rssFeedController, blogProperties, context);
+    }
+
+    @Test
+    void run_shouldWarmCorpusAndFeedWithoutWebServer() {
+        warmup.run(null);
+
+        WarmupReport report = warmup.getReport().orElseThrow();
+        assertEquals("corpus", report.steps().get(0).target());
+        assertEquals("rss", report.steps().get(1).target());
+        assertTrue(report.steps().stream().allMatch(step -> step.status() == 200));
+        assertEquals(ReadinessState.REFUSING_TRAFFIC,
+            context.getBean(ApplicationAvailabilityBean.class).getReadinessState());
+    }
+
+    @Test
+    void run_shouldDoNothingWhenDisabled() {
+        blogProperties.getWarmup().setEnabled(false);
+
+        warmup.run(null);
+
+        assertTrue(warmup.getReport().isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ContentSource;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.service.BlogService;
+import com.mindmeld360.blog.service.FeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedServiceTest {
+
+    private final List<BlogPost> posts = new ArrayList<>();
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        BlogProperties blogProperties = new BlogProperties();
+        blogProperties.setTitle("Test Blog");
+        blogProperties.setDescription("Test Description");
+        blogProperties.setPublisherUrl("https://test.example.com");
+        blogProperties.getRss().setMaxItems(3);
+
+        ContentSource contentSource = new ContentSource() {
+            @Override
+            public List<BlogPost> findPosts(int offset, int limit) {
+                List<BlogPost> sorted = posts.stream()
+                    .sorted(Comparator.comparing(BlogPost::pubDate).reversed().thenComparing(BlogPost::slug))
+                    .toList();
+                return sorted.subList(Math.min(offset, sorted.size()), Math.min(offset + limit, sorted.size()));
+            }
+
+            @Override
+            public Optional<BlogPost> findBySlug(String slug) {
+                return posts.stream().filter(post -> post.slug().equals(slug)).findFirst();
+            }
+
+            @Override
+            public int countPosts() {
+                return posts.size();
+            }
+        };
+        feedService = new FeedService(new BlogService(contentSource), blogProperties);
+
+        for (int day = 1; day <= 4; day++) {
+            posts.add(post("post-" + day, day, "Post " + day));
+        }
+    }
+
+    @Test
+    void getDelta_shouldReturnOnlyNewerItems() throws Exception {
+        FeedService.Feed before = feedService.getFeed();
+        posts.add(post("post-5", 5, "Post 5"));
+        posts.add(post("post-6", 6, "Post 6"));
+
+        FeedService.Feed delta = feedService.getDelta(before.etag()).orElseThrow();
+
+        assertEquals(2, delta.itemCount());
+        assertTrue(delta.xml().contains("Post 6"));
+        assertTrue(delta.xml().contains("Post 5"));
+        assertFalse(delta.xml().contains("Post 4"));
+        assertEquals(feedService.getFeed().etag(), delta.etag());
+    }
+
+    @Test
+    void getDelta_shouldRequireFullFeedWhenClientWindowChanged() throws Exception {
+        FeedService.Feed before = feedService.getFeed();
+        posts.replaceAll(post -> post.slug().equals("post-3") ? post("post-3", 3, "Post 3 (edited)") : post);
+        posts.add(post("post-5", 5, "Post 5"));
+
+        assertTrue(feedService.getDelta(before.etag()).isEmpty());
+        assertTrue(feedService.getDelta("not-an-etag").isEmpty());
+    }
+
+    @Test
+    void getFeed_shouldReuseXmlWhileEtagIsUnchanged() throws Exception {
+        FeedService.Feed first = feedService.getFeed();
+
+        assertSame(first, feedService.getFeed());
+        posts.add(post("post-5", 5, "Post 5"));
+        assertNotEquals(first.etag(), feedService.getFeed().etag());
+    }
+
+    private static BlogPost post(String slug, int day, String title) {
+        return new BlogPost(slug, title, "", "", "", LocalDate.of(2025, 1, day), null, null, "Author", List.of(), false);
+    }
+}
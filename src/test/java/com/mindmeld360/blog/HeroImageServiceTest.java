@@ -0,0 +1,93 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.model.HeroImage;
+import com.mindmeld360.blog.service.HeroImageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Derivatives are not generated in native images
+@DisabledInNativeImage
+class HeroImageServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HeroImageService heroImageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path images = Files.createDirectories(tempDir.resolve("static/images"));
+        ImageIO.write(new BufferedImage(1600, 900, BufferedImage.TYPE_INT_RGB), "jpg",
+            images.resolve("hero.jpg").toFile());
+
+        BlogProperties blogProperties = new BlogProperties();
+        blogProperties.getHeroImages().setEnabled(true);
+        blogProperties.getHeroImages().setSourceLocations(List.of(tempDir.resolve("static").toUri().toString()));
+        blogProperties.getHeroImages().setCacheDir(tempDir.resolve("cache").toString());
+        blogProperties.getHeroImages().setWidths(List.of(800, 400));
+
+        heroImageService = new HeroImageService(blogProperties, new DefaultResourceLoader());
+    }
+
+    @Test
+    void resolve_shouldGenerateDerivativesSmallestFirst() {
+        HeroImage heroImage = heroImageService.resolve("/images/hero.jpg").orElseThrow();
+
+        assertTrue(heroImage.src().startsWith("/blog/img/"));
+        assertTrue(heroImage.src().endsWith("-800.jpg"));
+        assertEquals(800, heroImage.width());
+        assertEquals(450, heroImage.height());
+        assertTrue(heroImage.srcset().matches(
+            "/blog/img/[0-9a-f]{16}-400\\.jpg 400w, /blog/img/[0-9a-f]{16}-800\\.jpg 800w, /images/hero\\.jpg 1600w"),
+            heroImage.srcset());
+    }
+
+    @Test
+    void resolve_shouldGenerateOnceForConcurrentCallers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<HeroImage>>> results = executor.invokeAll(
+                Collections.nCopies(8, () -> heroImageService.resolve("/images/hero.jpg")));
+            Optional<HeroImage> first = results.get(0).get();
+            assertTrue(first.isPresent());
+            for (Future<Optional<HeroImage>> result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getDerivative_shouldServeGeneratedFilesOnly() {
+        HeroImage heroImage = heroImageService.resolve("/images/hero.jpg").orElseThrow();
+        String fileName = heroImage.src().substring("/blog/img/".length());
+
+        assertTrue(heroImageService.getDerivative(fileName).isPresent());
+        assertTrue(heroImageService.getDerivative("../hero.jpg").isEmpty());
+    }
+
+    @Test
+    void resolve_shouldSkipRemoteAndMissingImages() {
+        assertEquals(Optional.empty(), heroImageService.resolve("https://cdn.example.com/hero.jpg"));
+        assertEquals(Optional.empty(), heroImageService.resolve("/images/missing.jpg"));
+        assertEquals(Optional.empty(), heroImageService.resolve("/images/logo.svg"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.mindmeld360.blog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.config.BlogConfiguration;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.JdbcContentSource;
+import com.mindmeld360.blog.content.MarkdownPostParser;
+import com.mindmeld360.blog.model.BlogPost;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcContentSourceTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcContentSource contentSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        contentSource = new JdbcContentSource(dataSource, "blog_posts", new ObjectMapper());
+        contentSource.initializeSchema();
+    }
+
+    @Test
+    void blogContentSource_shouldRejectUnpagedIndex() {
+        new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(BlogConfiguration.class)
+            .withBean(DataSource.class, () -> dataSource)
+            .withPropertyValues("blog.title=Test Blog", "blog.description=A test blog",
+                "blog.publisher-url=https://test.example.com", "blog.jdbc.enabled=true", "blog.page-size=0")
+            .run(context -> assertTrue(NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure())
+                .getMessage().contains("blog.page-size")));
+    }
+
+    @Test
+    void findBySlug_shouldRoundTripImportedClasspathPost() {
+        BlogProperties blogProperties = new BlogProperties();
+        blogProperties.setContentPath("content/blog");
+        ClasspathContentSource classpath = new ClasspathContentSource(blogProperties,
+            new PathMatchingResourcePatternResolver(),
+            new MarkdownPostParser(blogProperties, AnalysisPipeline.defaults(blogProperties)));
+        contentSource.saveAll(classpath.findAll());
+
+        BlogPost post = contentSource.findBySlug("test-post").orElseThrow();
+
+        assertEquals("Test Post Title", post.title());
+        assertEquals(LocalDate.of(2025, 12, 14), post.pubDate());
+        assertEquals(List.of("Test", "Example"), post.tags());
+        assertTrue(post.htmlContent().contains("<strong>test content</strong>"));
+        assertEquals("test-content", post.analysis().toc().get(0).anchor());
+    }
+
+    @Test
+    void findPosts_shouldPageNewestFirstWithoutDrafts() {
+        contentSource.saveAll(List.of(
+            post("oldest", LocalDate.of(2024, 1, 1), false),
+            post("middle", LocalDate.of(2024, 6, 1), false),
+            post("newest", LocalDate.of(2025, 1, 1), false),
+            post("hidden", LocalDate.of(2025, 6, 1), true)
+        ));
+
+        assertEquals(3, contentSource.countPosts());
+        assertEquals(List.of("newest", "middle"), slugs(contentSource.findPosts(0, 2)));
+        assertEquals(List.of("oldest"), slugs(contentSource.findPosts(2, 2)));
+        assertEquals("", contentSource.findPosts(0, 1).get(0).htmlContent(), "Listing should not load bodies");
+        assertEquals(Optional.empty(), contentSource.findBySlug("hidden"));
+    }
+
+    @Test
+    void save_shouldReplaceExistingPost() {
+        contentSource.save(post("post", LocalDate.of(2024, 1, 1), false));
+        contentSource.save(new BlogPost("post", "Updated", "", "", "<p>v2</p>",
+            LocalDate.of(2024, 1, 1), null, null, "Author", List.of(), false));
+
+        assertEquals(1, contentSource.countPosts());
+        assertEquals("<p>v2</p>", contentSource.findBySlug("post").orElseThrow().htmlContent());
+    }
+
+    private static BlogPost post(String slug, LocalDate pubDate, boolean draft) {
+        return new BlogPost(slug, "Title " + slug, "", "", "<p>" + slug + "</p>",
+            pubDate, null, null, "Author", List.of("Tag"), draft);
+    }
+
+    private static List<String> slugs(List<BlogPost> posts) {
+        return posts.stream().map(BlogPost::slug).toList();
+    }
+}
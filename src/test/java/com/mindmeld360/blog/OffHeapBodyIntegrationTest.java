@@ -0,0 +1,44 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogConfiguration;
+import com.mindmeld360.blog.service.BlogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest
+@Import(BlogConfiguration.class)
+@TestPropertySource(locations = "classpath:application.properties", properties = "blog.body-storage.mode=MAPPED")
+class OffHeapBodyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Test
+    void blogPost_shouldSpliceOffHeapBodyIntoPage() throws Exception {
+        mockMvc.perform(get("/blog/test-post"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("<strong>test content</strong>")))
+            .andExpect(content().string(not(containsString("devx-blog:post-body"))));
+    }
+
+    @Test
+    void getPostBySlug_shouldKeepBodyOutOfPostObject() {
+        assertEquals("", blogService.getPostBySlugOrThrow("test-post").htmlContent());
+        assertEquals("", blogService.getPostBySlugOrThrow("test-post").content());
+        assertTrue(blogService.getEncodedBody("test-post").isPresent());
+        assertTrue(blogService.getHtmlContent(blogService.getPostBySlugOrThrow("test-post"))
+            .contains("<strong>test content</strong>"));
+    }
+}
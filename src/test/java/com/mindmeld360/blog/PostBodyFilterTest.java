@@ -0,0 +1,74 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.web.PostBodyFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostBodyFilterTest {
+
+    @Test
+    void doFilter_shouldFlushHeadBeforeBodyChunks() throws Exception {
+        String head = "<html><head><title>Post</title></head><body><h1>Post</h1>";
+        String body = "<p>" + "x".repeat(3000) + "</p>";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog/post");
+        request.setAttribute(PostBodyFilter.BODY_ATTRIBUTE, body);
+        request.setAttribute(PostBodyFilter.STREAM_ATTRIBUTE, 1024);
+        String marker = PostBodyFilter.createMarker(request);
+        FlushRecordingResponse response = new FlushRecordingResponse();
+
+        new PostBodyFilter().doFilter(request, response, (req, res) -> {
+            PrintWriter writer = res.getWriter();
+            writer.write(head);
+            writer.write(marker);
+            writer.write("</body></html>");
+        });
+
+        assertEquals(head + body + "</body></html>", response.getContentAsString());
+        assertEquals(head, response.flushes.get(0), "head should be flushed before any body text");
+        assertEquals(head + body.substring(0, 1024), response.flushes.get(1));
+        assertTrue(response.flushes.size() >= 4, "body should be flushed in chunks: " + response.flushes.size());
+    }
+
+    @Test
+    void doFilter_shouldIgnoreMarkersFromOtherRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog/post");
+        request.setAttribute(PostBodyFilter.BODY_ATTRIBUTE, "<p>body</p>");
+        String foreign = PostBodyFilter.createMarker(new MockHttpServletRequest());
+        String marker = PostBodyFilter.createMarker(request);
+        String description = "<script>{\"description\":\"<!--devx-blog:post-body-->" + foreign + "\"}</script>";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new PostBodyFilter().doFilter(request, response, (req, res) -> {
+            PrintWriter writer = res.getWriter();
+            writer.write(description);
+            writer.write("<div>" + marker + "</div>");
+        });
+
+        assertEquals(description + "<div><p>body</p></div>", response.getContentAsString());
+    }
+
+    /**
+     * Records the content written so far whenever the writer flushes.
+     */
+    private static class FlushRecordingResponse extends MockHttpServletResponse {
+        private final List<String> flushes = new ArrayList<>();
+
+        @Override
+        public void setCommitted(boolean committed) {
+            super.setCommitted(committed);
+            try {
+                flushes.add(getContentAsString());
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.MarkdownPostParser;
+import com.mindmeld360.blog.model.BlogPost;
+import com.mindmeld360.blog.model.CorpusLoadReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderBudgetTest {
+
+    private static final String FRONT_MATTER = """
+        ---
+        title: "Budget Post"
+        pubDate: 2025-01-01
+        ---
+        """;
+
+    private BlogProperties blogProperties;
+
+    @BeforeEach
+    void setUp() {
+        blogProperties = new BlogProperties();
+        blogProperties.setPublisherUrl("https://test.example.com");
+    }
+
+    @Test
+    void parse_shouldDegradeDeeplyNestedPostToPlainText() {
+        String markdown = FRONT_MATTER + "> ".repeat(500) + "deep <quote>\n";
+
+        BlogPost post = parser().parse("deep.md", markdown);
+
+        assertNotNull(post);
+        assertEquals("Budget Post", post.title());
+        assertTrue(post.htmlContent().startsWith("<pre class=\"sb-post-degraded\">"));
+        assertTrue(post.htmlContent().contains("deep &lt;quote&gt;"));
+        assertFalse(post.htmlContent().contains("title:"), "Front matter should not be shown");
+        assertNotNull(post.analysis().getAttribute(MarkdownPostParser.DEGRADED_ATTRIBUTE));
+    }
+
+    @Test
+    void parse_shouldSkipPostOverNodeLimitWhenConfigured() {
+        blogProperties.getRenderBudget().setMaxNodes(50);
+        blogProperties.getRenderBudget().setOnExceeded(BlogProperties.RenderBudget.Action.SKIP);
+        String markdown = FRONT_MATTER + "| a | b |\n|---|---|\n" + "| 1 | 2 |\n".repeat(100);
+
+        List<String> reasons = new ArrayList<>();
+        assertNull(parser().parse("table.md", markdown, reasons::add));
+        assertEquals(List.of("more than 50 markdown nodes"), reasons);
+    }
+
+    @Test
+    void parse_shouldSkipPostOverByteLimit() {
+        blogProperties.getRenderBudget().setMaxBytes(DataSize.ofBytes(100));
+
+        assertNull(parser().parse("large.md", FRONT_MATTER + "x".repeat(200)));
+    }
+
+    @Test
+    void findAll_shouldNotReadFilesOverByteLimit() {
+        blogProperties.getRenderBudget().setMaxBytes(DataSize.ofBytes(100));
+        AtomicInteger reads = new AtomicInteger();
+        Resource large = new ByteArrayResource((FRONT_MATTER + "x".repeat(200)).getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "large.md";
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                reads.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(String locationPattern) {
+                return new Resource[] {large};
+            }
+        };
+
+        ClasspathContentSource source = new ClasspathContentSource(blogProperties, resolver, parser());
+
+        assertTrue(source.findAll().isEmpty());
+        assertEquals(0, reads.get(), "Oversized file should not be read");
+        CorpusLoadReport.Failure failure = source.getLoadReport().orElseThrow().failures().get(0);
+        assertEquals("large.md", failure.file());
+        assertEquals("larger than 100 bytes", failure.reason());
+    }
+
+    @Test
+    void parse_shouldRenderPostWithinBudget() {
+        BlogPost post = parser().parse("ok.md", FRONT_MATTER + "Hello **world**\n");
+
+        assertNotNull(post);
+        assertTrue(post.htmlContent().contains("<strong>world</strong>"));
+        assertNull(post.analysis().getAttribute(MarkdownPostParser.DEGRADED_ATTRIBUTE));
+    }
+
+    private MarkdownPostParser parser() {
+        return new MarkdownPostParser(blogProperties, AnalysisPipeline.defaults(blogProperties));
+    }
+}
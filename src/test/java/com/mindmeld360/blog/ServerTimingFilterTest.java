@@ -0,0 +1,63 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.web.PostBodyFilter;
+import com.mindmeld360.blog.web.RequestTimings;
+import com.mindmeld360.blog.web.ServerTimingFilter;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void doFilter_shouldBufferPagesToReportRendering() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog/post");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(request, response, (req, res) -> {
+            recordLookup(req);
+            res.getWriter().write("<html>");
+            res.flushBuffer();
+            assertEquals("", response.getContentAsString(), "Body should be buffered");
+        });
+
+        assertEquals("<html>", response.getContentAsString());
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertTrue(header.startsWith("lookup;dur="), header);
+        assertTrue(header.contains("render;dur=") && header.contains("total;dur="), header);
+    }
+
+    @Test
+    void doFilter_shouldNotBufferStreamedPages() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog/post");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(request, response, (req, res) -> {
+            recordLookup(req);
+            req.setAttribute(PostBodyFilter.STREAM_ATTRIBUTE, 1024);
+            PrintWriter writer = res.getWriter();
+            writer.write("<html><head>");
+            writer.flush();
+            assertEquals("<html><head>", response.getContentAsString(),
+                "Head should reach the client before the page is complete");
+            writer.write("</head></html>");
+        });
+
+        assertEquals("<html><head></head></html>", response.getContentAsString());
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertTrue(header.startsWith("lookup;dur="), header);
+        assertFalse(header.contains("render;dur="), header);
+        assertEquals(1, response.getHeaders(ServerTimingFilter.HEADER).size());
+    }
+
+    private static void recordLookup(ServletRequest request) {
+        RequestTimings timings = RequestTimings.of(request);
+        timings.stop("lookup", timings.start());
+        timings.startRender();
+    }
+}
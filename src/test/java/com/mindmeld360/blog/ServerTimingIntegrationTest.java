@@ -0,0 +1,54 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(properties = "blog.server-timing.enabled=true")
+@Import(BlogConfiguration.class)
+@TestPropertySource(locations = "classpath:application.properties")
+class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void blogPost_shouldReportPhases() throws Exception {
+        mockMvc.perform(get("/blog/test-post"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Server-Timing", allOf(
+                matchesPattern("lookup;dur=\\d+\\.\\d{2}, .*"),
+                containsString("jsonld;dur="),
+                containsString("model;dur="),
+                containsString("render;dur="),
+                containsString("total;dur="))))
+            .andExpect(content().string(containsString("<html")));
+    }
+
+    @Test
+    void rssFeed_shouldReportCacheHitOnSecondRequest() throws Exception {
+        mockMvc.perform(get("/blog/rss.xml"));
+
+        mockMvc.perform(get("/blog/rss.xml"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Server-Timing", containsString("feed-cache;desc=hit")))
+            .andExpect(header().string("Server-Timing", not(containsString("render"))));
+    }
+
+    @Test
+    void rssFeed_shouldReportDeltaOnce() throws Exception {
+        mockMvc.perform(get("/blog/rss.xml")
+                .header("If-None-Match", "\"unknown-1\", \"unknown-2\", \"unknown-3\"")
+                .header("A-IM", "feed"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Server-Timing", matchesPattern("^(?!.*delta.*delta).*delta;dur=.*$")));
+    }
+}
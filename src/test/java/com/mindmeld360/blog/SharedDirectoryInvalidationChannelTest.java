@@ -0,0 +1,218 @@
+package com.mindmeld360.blog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mindmeld360.blog.analysis.AnalysisPipeline;
+import com.mindmeld360.blog.config.BlogProperties;
+import com.mindmeld360.blog.content.ClasspathContentSource;
+import com.mindmeld360.blog.content.ContentManifest;
+import com.mindmeld360.blog.content.CorpusSnapshot;
+import com.mindmeld360.blog.content.MarkdownPostParser;
+import com.mindmeld360.blog.content.SharedDirectoryInvalidationChannel;
+import com.mindmeld360.blog.model.BlogPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedDirectoryInvalidationChannelTest {
+
+    @TempDir
+    Path sharedDir;
+
+    @TempDir
+    Path contentRoot;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private BlogProperties blogProperties;
+
+    @BeforeEach
+    void setUp() {
+        blogProperties = new BlogProperties();
+        blogProperties.setPublisherUrl("https://test.example.com");
+        blogProperties.setContentPath("content/blog");
+    }
+
+    @Test
+    void secondNode_shouldLoadPublishedCorpusWithoutRendering() {
+        CountingParser builderParser = new CountingParser();
+        CountingParser followerParser = new CountingParser();
+        ClasspathContentSource builder = source(builderParser, channel());
+        ClasspathContentSource follower = source(followerParser, channel());
+
+        List<BlogPost> built = builder.findAll();
+        List<BlogPost> loaded = follower.findAll();
+
+        assertTrue(builderParser.calls.get() > 0);
+        assertEquals(0, followerParser.calls.get(), "Follower should not parse markdown");
+        assertEquals(built, loaded);
+        assertEquals(builder.getManifest().orElseThrow(), follower.getManifest().orElseThrow());
+        assertTrue(follower.getManifest().orElseThrow().files().containsKey("test-post.md"));
+    }
+
+    @Test
+    void nodesWithDifferentSettings_shouldNotShareSnapshots() {
+        ClasspathContentSource builder = source(new CountingParser(), channel());
+        BlogProperties otherProperties = new BlogProperties();
+        otherProperties.setPublisherUrl("https://test.example.com");
+        otherProperties.setContentPath("content/blog");
+        otherProperties.getAnalysis().setWordsPerMinute(100);
+        CountingParser otherParser = new CountingParser(otherProperties);
+        SharedDirectoryInvalidationChannel otherChannel = channel();
+        ClasspathContentSource other = new ClasspathContentSource(otherProperties,
+            new PathMatchingResourcePatternResolver(), otherParser, otherProperties.getBodyStorage(), otherChannel);
+
+        other.findAll();
+        String otherVersion = other.getManifest().orElseThrow().version();
+        int parsed = otherParser.calls.get();
+        builder.findAll();
+        otherChannel.checkForUpdates();
+
+        assertTrue(parsed > 0, "Node with other settings should render itself");
+        assertNotEquals(otherVersion, builder.getManifest().orElseThrow().version());
+        assertEquals(builder.getManifest().orElseThrow().files(), other.getManifest().orElseThrow().files());
+        assertEquals(otherVersion, other.getManifest().orElseThrow().version(), "Announcement should be ignored");
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void announcedVersion_shouldSwapSnapshotOnNodesWithTheSameContent() throws Exception {
+        Path posts = Files.createDirectories(contentRoot.resolve("content/blog"));
+        Files.writeString(posts.resolve("first.md"), "---\ntitle: First\npubDate: 2024-01-01\n---\n\nHello.\n");
+        var resolver = new PathMatchingResourcePatternResolver(
+            new URLClassLoader(new URL[]{contentRoot.toUri().toURL()}, null));
+        CountingParser followerParser = new CountingParser();
+        SharedDirectoryInvalidationChannel followerChannel = channel();
+        ClasspathContentSource follower = source(resolver, followerParser, followerChannel);
+        ClasspathContentSource builder = source(resolver, new CountingParser(), channel());
+        assertEquals(1, follower.findAll().size());
+        assertEquals(1, builder.findAll().size());
+        int parsed = followerParser.calls.get();
+
+        Files.writeString(posts.resolve("second.md"), "---\ntitle: Second\npubDate: 2024-02-01\n---\n\nMore.\n");
+        builder.reload();
+        assertEquals(2, builder.findAll().size());
+        followerChannel.checkForUpdates();
+
+        assertEquals(List.of("second", "first"), follower.findAll().stream().map(BlogPost::slug).toList());
+        assertEquals(builder.getManifest().orElseThrow(), follower.getManifest().orElseThrow());
+        assertEquals(parsed, followerParser.calls.get(), "Follower should load the snapshot, not parse");
+    }
+
+    @Test
+    void announcedVersion_shouldBeIgnoredWhenLocalContentDiffers() {
+        SharedDirectoryInvalidationChannel followerChannel = channel();
+        ClasspathContentSource follower = source(new CountingParser(), followerChannel);
+        String version = follower.getManifest().orElseThrow().version();
+
+        channel().publish(snapshot("new-post"));
+        followerChannel.checkForUpdates();
+
+        assertEquals(version, follower.getManifest().orElseThrow().version());
+        assertTrue(follower.findBySlug("test-post").isPresent());
+        assertTrue(follower.findBySlug("new-post").isEmpty());
+    }
+
+    @Test
+    void checkForUpdates_shouldIgnoreAnnouncementsOlderThanTheLastSeen() throws Exception {
+        channel().publish(snapshot("one"));
+        CorpusSnapshot two = snapshot("two");
+        channel().publish(two);
+        SharedDirectoryInvalidationChannel follower = channel();
+        List<String> announced = new ArrayList<>();
+        follower.subscribe(announced::add);
+
+        // A slow publisher overwriting CURRENT with the generation it claimed earlier
+        Files.writeString(sharedDir.resolve("CURRENT"), "1 " + snapshot("one").manifest().version());
+        follower.checkForUpdates();
+        assertEquals(List.of(), announced);
+
+        CorpusSnapshot three = snapshot("three");
+        channel().publish(three);
+        follower.checkForUpdates();
+        assertEquals(List.of(three.manifest().version()), announced);
+        assertEquals("3 " + three.manifest().version(), Files.readString(sharedDir.resolve("CURRENT")));
+    }
+
+    @Test
+    void publish_shouldPruneOldSnapshots() throws Exception {
+        SharedDirectoryInvalidationChannel channel =
+            new SharedDirectoryInvalidationChannel(sharedDir, objectMapper, Duration.ZERO, Duration.ofSeconds(5), 2);
+        List<CorpusSnapshot> published = List.of(snapshot("one"), snapshot("two"), snapshot("three"));
+        Instant modified = Instant.now().minusSeconds(60);
+        for (CorpusSnapshot snapshot : published) {
+            channel.publish(snapshot);
+            // Distinct modification times regardless of file system timestamp resolution
+            modified = modified.plusSeconds(1);
+            Files.setLastModifiedTime(sharedDir.resolve("snapshots/" + snapshot.manifest().version() + ".json"),
+                FileTime.from(modified));
+        }
+
+        assertTrue(channel.load(published.get(0).manifest().version()).isEmpty());
+        assertTrue(channel.load(published.get(1).manifest().version()).isPresent());
+        assertTrue(channel.load(published.get(2).manifest().version()).isPresent());
+    }
+
+    @Test
+    void tryClaim_shouldAllowOneBuilderPerVersion() {
+        assertTrue(channel().tryClaim("abc123"));
+        assertFalse(channel().tryClaim("abc123"));
+        assertTrue(channel().tryClaim("def456"));
+    }
+
+    private SharedDirectoryInvalidationChannel channel() {
+        return new SharedDirectoryInvalidationChannel(sharedDir, objectMapper, Duration.ZERO, Duration.ofSeconds(5));
+    }
+
+    private ClasspathContentSource source(MarkdownPostParser parser, SharedDirectoryInvalidationChannel channel) {
+        return source(new PathMatchingResourcePatternResolver(), parser, channel);
+    }
+
+    private ClasspathContentSource source(ResourcePatternResolver resolver, MarkdownPostParser parser,
+                                          SharedDirectoryInvalidationChannel channel) {
+        return new ClasspathContentSource(blogProperties, resolver, parser, blogProperties.getBodyStorage(), channel);
+    }
+
+    private static CorpusSnapshot snapshot(String slug) {
+        BlogPost post = new BlogPost(slug, slug, "", "", "<p>" + slug + "</p>",
+            LocalDate.of(2024, 6, 1), null, null, null, List.of(), false);
+        ContentManifest manifest = ContentManifest.of(Map.of(slug + ".md", ContentManifest.hash(slug.getBytes())));
+        return new CorpusSnapshot(manifest, List.of(post), "other-node", Instant.now());
+    }
+
+    private class CountingParser extends MarkdownPostParser {
+        final AtomicInteger calls = new AtomicInteger();
+
+        CountingParser() {
+            this(blogProperties);
+        }
+
+        CountingParser(BlogProperties properties) {
+            super(properties, AnalysisPipeline.defaults(properties));
+        }
+
+        @Override
+        public BlogPost parse(String filename, String content, Consumer<String> onSkipped) {
+            calls.incrementAndGet();
+            return super.parse(filename, content, onSkipped);
+        }
+    }
+}
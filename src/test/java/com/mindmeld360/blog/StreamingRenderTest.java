@@ -0,0 +1,32 @@
+package com.mindmeld360.blog;
+
+import com.mindmeld360.blog.config.BlogConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest
+@Import(BlogConfiguration.class)
+@TestPropertySource(locations = "classpath:application.properties",
+    properties = {"blog.streaming.enabled=true", "blog.streaming.min-body-size=0"})
+class StreamingRenderTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void blogPost_shouldStreamHeapBodyIntoPage() throws Exception {
+        mockMvc.perform(get("/blog/test-post"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("<strong>test content</strong>")))
+            .andExpect(content().string(containsString("</html>")))
+            .andExpect(content().string(not(containsString("devx-blog:post-body"))));
+    }
+}
@@ -0,0 +1,13 @@
+package com.mindmeld360.blog;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+/**
+ * Boot configuration for slice tests; the library itself has no application class.
+ * Tests import {@link com.mindmeld360.blog.config.BlogConfiguration} the way a consuming app would.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class TestApplication {
+}